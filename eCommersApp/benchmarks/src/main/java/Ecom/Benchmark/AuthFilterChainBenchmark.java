@@ -0,0 +1,143 @@
+package Ecom.Benchmark;
+
+import Ecom.SecurityConfig.JwtAuthenticationFilter;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.SecurityConfig.SecurityConstants;
+import Ecom.Service.RefreshTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication filter-chain cost per request carrying a bearer token
+ *
+ * legacyChain   - JwtTokenValidatorFilter (key rebuilt + parse with JWT_KEY) followed by the
+ *                 auto-registered JwtAuthenticationFilter (second parse with jwt.secret, which
+ *                 fails on the session token and is swallowed)
+ * unifiedChain  - the single JwtAuthenticationFilter, repeat token answered from the verified cache
+ * unifiedChainUncached - the single filter with the verified cache disabled (one signature check)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthFilterChainBenchmark {
+
+    /**
+     * 512-bit secret so HS512 tokens can be issued
+     */
+    private static final String JWT_SECRET =
+            "ZWNvbS1iZW5jaG1hcmstaHM1MTItc2lnbmluZy1zZWNyZXQtMDEyMzQ1Njc4OWFiY2RlZmdoaWprbG1ub3Bxcg==";
+
+    private static final String PATH = "/ecom/orders/users/1";
+
+    private JwtAuthenticationFilter unifiedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtParser legacySecretParser;
+    private String sessionToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = provider(10000);
+        // session tokens carry no sid, so the revocation check is never reached
+        RefreshTokenService noRevocations = (RefreshTokenService) Proxy.newProxyInstance(
+                RefreshTokenService.class.getClassLoader(), new Class<?>[] { RefreshTokenService.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isRevoked")) {
+                        return false;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        unifiedFilter = new JwtAuthenticationFilter(provider, noRevocations);
+        uncachedFilter = new JwtAuthenticationFilter(provider(0), noRevocations);
+
+        Authentication user = new UsernamePasswordAuthenticationToken("bench@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        sessionToken = provider.generateSessionToken(user);
+
+        legacySecretParser = Jwts.parserBuilder()
+                .setSigningKey(new SecretKeySpec(Decoders.BASE64.decode(JWT_SECRET), SignatureAlgorithm.HS512.getJcaName()))
+                .build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void legacyChain(Blackhole bh) throws Exception {
+        MockHttpServletRequest request = request();
+        String jwt = request.getHeader(SecurityConstants.JWT_HEADER).substring(7);
+
+        // JwtTokenValidatorFilter
+        SecretKey key = Keys.hmacShaKeyFor(SecurityConstants.JWT_KEY.getBytes());
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                String.valueOf(claims.get("username")), null,
+                AuthorityUtils.commaSeparatedStringToAuthorityList((String) claims.get("authorities"))));
+
+        // JwtAuthenticationFilter registered as a plain servlet filter
+        try {
+            bh.consume(legacySecretParser.parseClaimsJws(jwt));
+        } catch (JwtException ex) {
+            bh.consume(ex);
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        chain.doFilter(request, new MockHttpServletResponse());
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void unifiedChain(Blackhole bh) throws Exception {
+        unifiedFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void unifiedChainUncached(Blackhole bh) throws Exception {
+        uncachedFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setServletPath(PATH);
+        request.addHeader(SecurityConstants.JWT_HEADER, "Bearer " + sessionToken);
+        return request;
+    }
+
+    private static JwtTokenProvider provider(long cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 900000);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604800000);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheSize);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
@@ -0,0 +1,84 @@
+package Ecom.Benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with -rf json (see scripts/run-benchmarks.sh)
+ *
+ *   java -cp target/benchmarks.jar Ecom.Benchmark.BenchmarkDiff baseline.json current.json [threshold%]
+ *
+ * Prints one line per benchmark and parameter set with both scores and the relative change.
+ * Changes larger than the threshold (default 10%) that fall outside both error margins are
+ * flagged; the exit status is 1 when any benchmark regressed that way.
+ */
+public final class BenchmarkDiff {
+
+    private BenchmarkDiff() {
+    }
+
+    private record Score(double score, double error, String unit) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkDiff <baseline.json> <current.json> [threshold%]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+
+        boolean regressed = false;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", entry.getKey(), "-", now.score(), "new", now.unit());
+                continue;
+            }
+            double change = (now.score() - before.score()) / before.score();
+            boolean significant = Math.abs(change) > threshold
+                    && Math.abs(now.score() - before.score()) > now.error() + before.error();
+            // AverageTime / SampleTime scores: higher is slower
+            boolean worse = now.unit().endsWith("/op") ? change > 0 : change < 0;
+            String flag = significant ? (worse ? "  REGRESSION" : "  improvement") : "";
+            regressed |= significant && worse;
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), before.score(), now.score(),
+                    change * 100, now.unit(), flag);
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s %14.3f %14s %9s%n", name, baseline.get(name).score(), "-", "removed");
+            }
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /**
+     * Benchmark name (without the package) plus its parameters -> primary metric
+     */
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(result.path("benchmark").asText().replace("Ecom.Benchmark.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(name.toString(), new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
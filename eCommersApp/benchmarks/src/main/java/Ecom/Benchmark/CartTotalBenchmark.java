@@ -0,0 +1,71 @@
+package Ecom.Benchmark;
+
+import Ecom.Model.Cart;
+import Ecom.Model.CartItem;
+import Ecom.Model.Product;
+import Ecom.ServiceImpl.CartServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CartServiceImpl cart total, recomputed on every add / increase / decrease / remove
+ *
+ * calculateCartTotal - the service's own (private) calculation, called through a constant
+ *                      method handle so the JIT inlines it like a direct call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartTotalBenchmark {
+
+    private static final MethodHandle CALCULATE_CART_TOTAL;
+
+    static {
+        try {
+            CALCULATE_CART_TOTAL = MethodHandles.privateLookupIn(CartServiceImpl.class, MethodHandles.lookup())
+                    .findVirtual(CartServiceImpl.class, "calculateCartTotal",
+                            MethodType.methodType(double.class, List.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private CartServiceImpl cartService;
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartService = new CartServiceImpl(null, null, null, null);
+
+        Cart cart = new Cart();
+        cartItems = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Product product = new Product();
+            product.setProductId(i);
+            product.setPrice(9.99 + i);
+            CartItem item = new CartItem();
+            item.setProduct(product);
+            item.setQuantity(1 + i % 3);
+            item.setCart(cart);
+            cartItems.add(item);
+        }
+        cart.setCartItems(cartItems);
+    }
+
+    @Benchmark
+    public double calculateCartTotal() throws Throwable {
+        return (double) CALCULATE_CART_TOTAL.invokeExact(cartService, cartItems);
+    }
+}
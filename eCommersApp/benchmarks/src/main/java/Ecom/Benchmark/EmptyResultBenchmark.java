@@ -0,0 +1,96 @@
+package Ecom.Benchmark;
+
+import Ecom.Exception.ProductException;
+import Ecom.Model.Product;
+import Ecom.Repository.ProductRepository;
+import Ecom.ServiceImpl.ProductServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a miss (empty category, unknown product) costs the service layer
+ *
+ * emptyResult           - getProductByCategory on a category with no products: an empty list
+ * stackTraceException   - the miss answered with a regular RuntimeException, thrown under
+ *                         depth frames and caught at the top, as the handler would
+ * stacklessException    - the same with ProductException (DomainException: no stack trace)
+ * cachedException       - a shared ProductException instance, as getSingleProduct throws
+ *
+ * depth stands in for the servlet, security and proxy frames above a service call
+ * (a few hundred in a running application).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmptyResultBenchmark {
+
+    private static final String MESSAGE = "Product with category Name shoes not found.";
+
+    private static final ProductException CACHED = new ProductException(MESSAGE);
+
+    @Param({"20", "200"})
+    public int depth;
+
+    private ProductServiceImpl productService;
+
+    @Setup
+    public void setUp() {
+        ProductRepository emptyCategory = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[] { ProductRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getProductCategoryName")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        productService = new ProductServiceImpl(emptyCategory);
+    }
+
+    @Benchmark
+    public List<Product> emptyResult() {
+        return productService.getProductByCategory("shoes");
+    }
+
+    @Benchmark
+    public Object stackTraceException() {
+        return caught(0);
+    }
+
+    @Benchmark
+    public Object stacklessException() {
+        return caught(1);
+    }
+
+    @Benchmark
+    public Object cachedException() {
+        return caught(2);
+    }
+
+    private Object caught(int kind) {
+        try {
+            return descend(depth, kind);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static Object descend(int frames, int kind) {
+        if (frames > 0) {
+            return descend(frames - 1, kind);
+        }
+        switch (kind) {
+            case 0:
+                throw new RuntimeException(MESSAGE);
+            case 1:
+                throw new ProductException(MESSAGE);
+            default:
+                throw CACHED;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package Ecom.Benchmark;
+
+import Ecom.Enum.OrderStatus;
+import Ecom.Enum.PaymentMethod;
+import Ecom.Enum.PaymentStatus;
+import Ecom.Model.Address;
+import Ecom.Model.OrderItem;
+import Ecom.Model.Orders;
+import Ecom.Model.Payment;
+import Ecom.Model.Product;
+import Ecom.Model.Review;
+import Ecom.Model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization with the application's ObjectMapper
+ *
+ * The mapper comes from Spring Boot's JacksonAutoConfiguration, the same bean MVC writes
+ * responses with (the application sets no spring.jackson.* properties).
+ *
+ * productList - a product search page: products with two reviews each
+ * order       - one order as GET /ecom/orders/{id} returns it: lines, customer with
+ *               addresses, payment with its payer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"20"})
+    public int products;
+
+    private AnnotationConfigApplicationContext context;
+    private ObjectMapper objectMapper;
+    private List<Product> productList;
+    private Orders order;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 10, 30);
+        productList = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            Product product = new Product();
+            product.setProductId(i);
+            product.setName("Lamp model " + i);
+            product.setImageUrl("https://example.com/products/" + i + ".png");
+            product.setDescription("Desk lamp with a warm white LED");
+            product.setPrice(19.99 + i);
+            product.setCategory("lighting");
+            for (int r = 0; r < 2; r++) {
+                Review review = new Review();
+                review.setReviewId((long) (i * 2 + r));
+                review.setRating(4 + r);
+                review.setComment("Bright and well built");
+                review.setCreatedAt(now);
+                product.getReviews().add(review);
+            }
+            productList.add(product);
+        }
+
+        User customer = new User();
+        customer.setUserId(1);
+        customer.setEmail("bench@example.com");
+        customer.setFirstName("Bench");
+        customer.setLastName("Customer");
+        customer.setPhoneNumber("0123456789");
+        customer.setRegisterTime(now);
+        for (String flatNo : new String[] {"12A", "7B"}) {
+            Address address = new Address();
+            address.setFlatNo(flatNo);
+            address.setStreet("Main Street");
+            address.setCity("Hanoi");
+            address.setZipCode("100000");
+            address.setState("HN");
+            customer.getAddress().add(address);
+        }
+
+        order = new Orders();
+        order.setOrderId(1);
+        order.setStatus(OrderStatus.SHIPPED);
+        order.setOrderDate(now);
+        order.setUser(customer);
+        for (int i = 0; i < 3; i++) {
+            OrderItem line = new OrderItem();
+            line.setOrderItemId(i);
+            line.setOrderId(1);
+            line.setProductId(i);
+            line.setProductName("Lamp model " + i);
+            line.setQuantity(1 + i);
+            line.setUnitPrice(19.99 + i);
+            line.setLineTotal((19.99 + i) * (1 + i));
+            order.getOrderItem().add(line);
+            order.setTotalAmount(order.getTotalAmount() + line.getLineTotal());
+        }
+        Payment payment = new Payment();
+        payment.setPaymentId(1L);
+        payment.setPaymentDate(now);
+        payment.setPaymentAmount(order.getTotalAmount());
+        payment.setPaymentMethod(PaymentMethod.UPI);
+        payment.setPaymentStatus(PaymentStatus.SUCCESSFUL);
+        payment.setUser(customer);
+        order.setPayment(payment);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] productList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productList);
+    }
+
+    @Benchmark
+    public byte[] order() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+}
@@ -0,0 +1,88 @@
+package Ecom.Benchmark;
+
+import Ecom.SecurityConfig.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider parse / validate cost per call
+ *
+ * verifyCached          - repeat token, answered from the verified-token cache
+ * verifyUncached        - cache disabled: signature check and claim decoding on every call
+ * validateSessionToken  - validateToken on the HS256 session token the web client sends
+ * validateAccessToken   - validateToken on an HS512 access token, uncached
+ * authoritiesFromJWT    - getAuthoritiesFromJWT, what the filter reads on every request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    /**
+     * 512-bit secret so HS512 tokens can be issued
+     */
+    private static final String JWT_SECRET =
+            "ZWNvbS1iZW5jaG1hcmstaHM1MTItc2lnbmluZy1zZWNyZXQtMDEyMzQ1Njc4OWFiY2RlZmdoaWprbG1ub3Bxcg==";
+
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private String sessionToken;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        cached = provider(10000);
+        uncached = provider(0);
+
+        Authentication user = new UsernamePasswordAuthenticationToken("bench@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        sessionToken = cached.generateSessionToken(user);
+        accessToken = cached.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return cached.verify(sessionToken);
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return uncached.verify(sessionToken);
+    }
+
+    @Benchmark
+    public boolean validateSessionToken() {
+        return uncached.validateToken(sessionToken);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return uncached.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public void authoritiesFromJWT(Blackhole bh) {
+        bh.consume(cached.getUsernameFromJWT(sessionToken));
+        bh.consume(cached.getAuthoritiesFromJWT(sessionToken));
+    }
+
+    static JwtTokenProvider provider(long cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 900000);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604800000);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheSize);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
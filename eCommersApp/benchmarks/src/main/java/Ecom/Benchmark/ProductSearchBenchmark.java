@@ -0,0 +1,143 @@
+package Ecom.Benchmark;
+
+import Ecom.Model.Product;
+import Ecom.Model.Review;
+import Ecom.Repository.ProductRepository;
+import Ecom.Service.ProductService;
+import Ecom.ServiceImpl.ProductServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product search (GET /ecom/products/all?keyword=...) through the real service and repository
+ *
+ * ProductServiceImpl.getAllProduct on a Spring Data ProductRepository backed by an in-memory
+ * H2 database (PostgreSQL mode, schema generated from the entities): the generated query, the
+ * Product.reviews entity graph join, JDBC and Hibernate hydration are all in the score. Each
+ * product has two reviews, as in the test fixture. Absolute numbers are lower than against
+ * PostgreSQL over a socket; compare runs of this benchmark with each other.
+ *
+ * search      - keyword matching a few percent of the catalogue
+ * searchMiss  - keyword matching nothing (an empty list)
+ * listAll     - no keyword, the whole catalogue sorted
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+    private static final String[] NAMES = {"Lamp", "Desk", "Chair", "Phone", "Laptop", "Kettle", "Mug", "Shelf"};
+
+    @Param({"1000"})
+    public int products;
+
+    private AnnotationConfigApplicationContext context;
+
+    private ProductService productService;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedCatalogue.class);
+        productService = context.getBean(ProductService.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            for (int i = 0; i < products; i++) {
+                Product product = new Product();
+                product.setName(NAMES[i % NAMES.length] + " model " + i);
+                product.setImageUrl("https://example.com/product-" + i + ".png");
+                product.setDescription("benchmark catalogue row");
+                product.setPrice(5.0 + i % 200);
+                product.setCategory("category-" + i % 20);
+                for (int r = 0; r < 2; r++) {
+                    Review review = new Review();
+                    review.setRating(1 + (i + r) % 5);
+                    review.setComment("review " + r + " of product " + i);
+                    review.setCreatedAt(LocalDateTime.now());
+                    review.setProduct(product);
+                    product.getReviews().add(review);
+                }
+                productRepository.save(product);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Product> search() {
+        return productService.getAllProduct("lamp model 1", "asc", "price");
+    }
+
+    @Benchmark
+    public List<Product> searchMiss() {
+        return productService.getAllProduct("no such product", "asc", "price");
+    }
+
+    @Benchmark
+    public List<Product> listAll() {
+        return productService.getAllProduct(null, "desc", "price");
+    }
+
+    /**
+     * Just the JPA pieces product search needs: the entities, ProductRepository and the service
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = ProductRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ProductRepository.class))
+    static class EmbeddedCatalogue {
+
+        @Bean
+        DataSource dataSource() {
+            // pooled like the application's DataSource, so a call does not pay for a new connection
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:catalogue;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Product.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        ProductService productService(ProductRepository productRepository) {
+            return new ProductServiceImpl(productRepository);
+        }
+    }
+}
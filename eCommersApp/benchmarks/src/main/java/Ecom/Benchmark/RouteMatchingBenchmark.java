@@ -0,0 +1,88 @@
+package Ecom.Benchmark;
+
+import Ecom.SecurityConfig.AppConfig;
+import Ecom.SecurityConfig.RouteAuthorizationTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppConfig route authorization lookup for a mix of requests, scored per request
+ *
+ * routeTable      - RouteAuthorizationTable.match on the table AppConfig declares
+ * antMatcherChain - the same rules as an ordered AntPathRequestMatcher chain, first match wins
+ *                   (what authorizeHttpRequests evaluated before the table)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteMatchingBenchmark {
+
+    /**
+     * Method and path pairs: early, late and unmatched rules
+     */
+    private static final String[][] REQUESTS = {
+            {"GET", "/ecom/products/all"},
+            {"GET", "/ecom/products/42"},
+            {"POST", "/ecom/cart/add-product/7/42"},
+            {"GET", "/ecom/cart/products/7"},
+            {"POST", "/ecom/orders/placed/7"},
+            {"GET", "/ecom/orders/orders/7"},
+            {"PUT", "/ecom/orders/admin/status"},
+            {"GET", "/ecom/order-payments/3"},
+            {"GET", "/actuator/health/liveness"},
+            {"DELETE", "/ecom/unknown/1"},
+    };
+
+    private RouteAuthorizationTable table;
+    private List<AntPathRequestMatcher> antMatchers;
+    private MockHttpServletRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        table = new AppConfig(null, null, null).routeAuthorizationTable();
+
+        antMatchers = new ArrayList<>();
+        for (RouteAuthorizationTable.Rule rule : table.getRules()) {
+            antMatchers.add(new AntPathRequestMatcher(rule.getPattern(),
+                    rule.getMethod() != null ? rule.getMethod().name() : null));
+        }
+
+        requests = new MockHttpServletRequest[REQUESTS.length];
+        for (int i = 0; i < REQUESTS.length; i++) {
+            requests[i] = new MockHttpServletRequest(REQUESTS[i][0], REQUESTS[i][1]);
+            requests[i].setServletPath(REQUESTS[i][1]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void routeTable(Blackhole bh) {
+        for (MockHttpServletRequest request : requests) {
+            bh.consume(table.match(request.getMethod(), request.getServletPath()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void antMatcherChain(Blackhole bh) {
+        for (MockHttpServletRequest request : requests) {
+            int match = -1;
+            for (int i = 0; i < antMatchers.size(); i++) {
+                if (antMatchers.get(i).matches(request)) {
+                    match = i;
+                    break;
+                }
+            }
+            bh.consume(match);
+        }
+    }
+}
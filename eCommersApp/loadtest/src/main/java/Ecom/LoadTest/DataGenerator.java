@@ -0,0 +1,489 @@
+package Ecom.LoadTest;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Bulk loads synthetic customers, products, orders and reviews into the application database
+ *
+ *   java -cp target/loadtest.jar Ecom.LoadTest.DataGenerator -users 100000 -products 1000000 \
+ *        -orders 2000000 -reviews 3000000 [-batch 1000] [-seed 42] [-reset true | -clean true]
+ *
+ * Connects with the application's DB_HOST / DB_PORT / DB_NAME / DB_USER / DB_PASSWORD
+ * (or -url / -user / -password) to a schema Flyway has already migrated: start the
+ * application once first. Rows go in through multi-row batched inserts
+ * (reWriteBatchedInserts), one commit per batch; ids are taken from the tables' own
+ * sequences a batch at a time so order lines can reference their order without a round
+ * trip per row. Output is reproducible for a given seed.
+ *
+ * Generated customers are load-N@loadtest.invalid (password "loadtest") with one address
+ * each; generated products are in "load-*" categories and the checkout flow ships with
+ * "Load Freight *" carriers. Orders spread over the last
+ * -order-days (730, so the archive job has a year of history to move), 1-4 lines each, with
+ * the price snapshot filled like placeOrder does. -reset true first deletes everything a
+ * previous run (or a load test against its data) created; -clean true only deletes it, to
+ * hand the database back to the test suite.
+ *
+ * The data set description LoadDriver needs is written to -manifest (loadtest-data.json).
+ */
+public final class DataGenerator {
+
+    private static final String[] FIRST_NAMES = {"An", "Binh", "Chi", "Dung", "Giang", "Hoa", "Khanh", "Linh",
+            "Minh", "Nam", "Phuong", "Quang", "Son", "Thao", "Trang", "Viet"};
+
+    private static final String[] LAST_NAMES = {"Nguyen", "Tran", "Le", "Pham", "Hoang", "Vu", "Dang", "Bui"};
+
+    private static final String[] CITIES = {"Hanoi", "Saigon", "Danang", "Hue", "Haiphong", "Cantho", "Nhatrang"};
+
+    private static final String[] ADJECTIVES = {"Walnut", "Compact", "Classic", "Wireless", "Ceramic", "Steel",
+            "Bamboo", "Portable", "Vintage", "Smart", "Linen", "Glass", "Copper", "Foldable", "Leather", "Modern",
+            "Rustic", "Silent", "Ergonomic", "Solar"};
+
+    private static final String[] NOUNS = {"Lamp", "Desk", "Chair", "Kettle", "Speaker", "Backpack", "Mug",
+            "Shelf", "Headphones", "Blender", "Jacket", "Watch", "Keyboard", "Pillow", "Bottle", "Camera",
+            "Notebook", "Sofa", "Mirror", "Fan"};
+
+    private static final String[] CATEGORIES = {"lighting", "furniture", "kitchen", "audio", "bags", "office",
+            "clothing", "watches", "computing", "bedding", "outdoor", "photo", "stationery", "decor", "garden",
+            "sports", "toys", "beauty", "tools", "pets"};
+
+    private static final String[] COMMENTS = {"Works as described", "Good value for the price",
+            "Arrived quickly, well packed", "Quality could be better", "Exactly what I needed",
+            "Stopped working after a month", "Would buy again"};
+
+    private static final String PASSWORD = "loadtest";
+
+    /**
+     * Carriers the checkout flow picks from
+     */
+    private static final int SHIPPERS = 5;
+
+    private final Connection connection;
+
+    private final SplittableRandom random;
+
+    private final int batchSize;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private DataGenerator(Connection connection, long seed, int batchSize) {
+        this.connection = connection;
+        this.random = new SplittableRandom(seed);
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String url = options.string("url", "jdbc:postgresql://" + Options.env("DB_HOST", "localhost") + ":"
+                + Options.env("DB_PORT", "5432") + "/" + Options.env("DB_NAME", "ecommerce"));
+        String user = options.string("user", Options.env("DB_USER", "postgres"));
+        String password = options.string("password", Options.env("DB_PASSWORD", "password"));
+        int users = options.integer("users", 10_000);
+        long products = options.number("products", 10_000);
+        long orders = options.number("orders", 50_000);
+        long reviews = options.number("reviews", 50_000);
+        int batchSize = options.integer("batch", 1000);
+        long seed = options.number("seed", 42);
+        int orderDays = options.integer("order-days", 730);
+        boolean reset = options.flag("reset");
+        boolean clean = options.flag("clean");
+        File manifest = new File(options.string("manifest", "loadtest-data.json"));
+        options.rejectUnknown();
+
+        String batchedUrl = url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        try (Connection connection = DriverManager.getConnection(batchedUrl, user, password)) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection, seed, batchSize);
+
+            if (reset || clean) {
+                generator.reset();
+                if (clean) {
+                    return;
+                }
+            } else if (generator.count("SELECT count(*) FROM users WHERE email LIKE '%" + DataSet.EMAIL_DOMAIN + "'") > 0) {
+                throw new IllegalStateException("generated data already present, rerun with -reset true");
+            }
+
+            long[] userIds = generator.insertUsers(users);
+            long[] productIds = generator.insertProducts(products);
+            long[] shipperIds = generator.insertShippers(SHIPPERS);
+            generator.insertOrders(orders, userIds, productIds, orderDays);
+            generator.insertReviews(reviews, userIds, productIds, orderDays);
+            generator.analyze();
+
+            new DataSet("load-%d" + DataSet.EMAIL_DOMAIN, PASSWORD, users, ranges(productIds),
+                    Arrays.stream(CATEGORIES).map(category -> DataSet.CATEGORY_PREFIX + category).toList(),
+                    generator.keywords(productIds.length), Arrays.stream(shipperIds).boxed().toList()).write(manifest);
+            System.out.println("Data set written to " + manifest.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Deletes generated customers and products with everything that references them,
+     * children first (the schema has foreign keys but no cascades)
+     */
+    private void reset() throws SQLException {
+        String users = "SELECT user_id FROM users WHERE email LIKE '%" + DataSet.EMAIL_DOMAIN + "'";
+        String orders = "SELECT order_id FROM orders WHERE user_id IN (" + users + ")";
+        String archived = "SELECT order_id FROM orders_archive WHERE user_id IN (" + users + ")";
+        String products = "SELECT product_id FROM products WHERE category_name LIKE '" + DataSet.CATEGORY_PREFIX + "%'";
+        String shippers = "SELECT shipper_id FROM shipper WHERE name LIKE '" + DataSet.SHIPPER_PREFIX + "%'";
+        String[] statements = {
+                "UPDATE orders SET payment_id = NULL, shipping_details_id = NULL WHERE user_id IN (" + users + ")",
+                "DELETE FROM payments WHERE user_id IN (" + users + ") OR order_id IN (" + orders + ")",
+                "DELETE FROM shipping WHERE order_id IN (" + orders + ") OR shipper_id IN (" + shippers + ")",
+                "WITH links AS (DELETE FROM orders_order_item WHERE orders_order_id IN (" + orders + ")"
+                        + " OR order_item_order_item_id IN (SELECT order_item_id FROM order_item WHERE product_id IN ("
+                        + products + ")) RETURNING order_item_order_item_id)"
+                        + " DELETE FROM order_item WHERE order_item_id IN (SELECT order_item_order_item_id FROM links)",
+                "DELETE FROM orders WHERE user_id IN (" + users + ")",
+                "DELETE FROM order_item_archive WHERE order_id IN (" + archived + ")",
+                "DELETE FROM shipping_archive WHERE order_id IN (" + archived + ")",
+                "DELETE FROM payments_archive WHERE user_id IN (" + users + ")",
+                "DELETE FROM orders_archive WHERE user_id IN (" + users + ")",
+                "DELETE FROM cart_items WHERE cart_id IN (SELECT cart_id FROM cart WHERE user_id IN (" + users + "))"
+                        + " OR product_id IN (" + products + ")",
+                "DELETE FROM cart WHERE user_id IN (" + users + ")",
+                "DELETE FROM reviews WHERE user_id IN (" + users + ") OR product_id IN (" + products + ")",
+                "DELETE FROM address WHERE userid IN (" + users + ")",
+                "DELETE FROM user_permissions WHERE user_id IN (" + users + ")",
+                "DELETE FROM refresh_tokens WHERE username LIKE '%" + DataSet.EMAIL_DOMAIN + "'",
+                "DELETE FROM users WHERE email LIKE '%" + DataSet.EMAIL_DOMAIN + "'",
+                "DELETE FROM products WHERE category_name LIKE '" + DataSet.CATEGORY_PREFIX + "%'",
+                "DELETE FROM shipper WHERE name LIKE '" + DataSet.SHIPPER_PREFIX + "%'" };
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.executeUpdate(sql);
+            }
+        }
+        connection.commit();
+        System.out.printf("reset: previous data deleted in %.1f s%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    private long[] insertUsers(int count) throws SQLException {
+        // one hash for every customer: BCrypt is deliberately slow
+        String hash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(10));
+        long[] ids = new long[count];
+        Progress progress = new Progress("users", count);
+        try (PreparedStatement user = connection.prepareStatement("INSERT INTO users (user_id, email, password, "
+                + "first_name, last_name, phone_number, user_role, user_reg_time, user_account_status) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 'ROLE_USER', ?, 'ACTIVE')");
+             PreparedStatement address = connection.prepareStatement("INSERT INTO address (userid, flat_no, street, "
+                     + "city, state, zip_code) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int from = 0; from < count; from += batchSize) {
+                int size = Math.min(batchSize, count - from);
+                long[] batch = nextIds("users", "user_id", size);
+                for (int i = 0; i < size; i++) {
+                    long id = batch[i];
+                    ids[from + i] = id;
+                    user.setLong(1, id);
+                    user.setString(2, String.format("load-%d%s", from + i + 1, DataSet.EMAIL_DOMAIN));
+                    user.setString(3, hash);
+                    user.setString(4, pick(FIRST_NAMES));
+                    user.setString(5, pick(LAST_NAMES));
+                    user.setString(6, String.format("09%08d", random.nextInt(100_000_000)));
+                    user.setTimestamp(7, Timestamp.valueOf(now.minusMinutes(random.nextInt(3 * 365 * 24 * 60))));
+                    user.addBatch();
+
+                    address.setLong(1, id);
+                    address.setString(2, random.nextInt(1, 300) + String.valueOf((char) ('A' + random.nextInt(6))));
+                    address.setString(3, random.nextInt(1, 200) + " " + pick(LAST_NAMES) + " Street");
+                    String city = pick(CITIES);
+                    address.setString(4, city);
+                    address.setString(5, city.substring(0, 2).toUpperCase());
+                    address.setString(6, String.valueOf(100000 + random.nextInt(900000)));
+                    address.addBatch();
+                }
+                user.executeBatch();
+                address.executeBatch();
+                connection.commit();
+                progress.add(size);
+            }
+        }
+        progress.done();
+        return ids;
+    }
+
+    private long[] insertProducts(long count) throws SQLException {
+        long[] ids = new long[Math.toIntExact(count)];
+        Progress progress = new Progress("products", count);
+        try (PreparedStatement product = connection.prepareStatement("INSERT INTO products (product_id, name, "
+                + "image_url, is_available, description, price, category_name) VALUES (?, ?, ?, true, ?, ?, ?)")) {
+            for (int from = 0; from < count; from += batchSize) {
+                int size = (int) Math.min(batchSize, count - from);
+                long[] batch = nextIds("products", "product_id", size);
+                for (int i = 0; i < size; i++) {
+                    int n = from + i;
+                    ids[n] = batch[i];
+                    product.setLong(1, batch[i]);
+                    product.setString(2, productName(n));
+                    product.setString(3, "https://picsum.photos/seed/load" + (n + 1) + "/400/400");
+                    product.setString(4, "Synthetic " + NOUNS[noun(n)].toLowerCase(Locale.ROOT) + " for load tests");
+                    product.setDouble(5, productPrice(n));
+                    product.setString(6, DataSet.CATEGORY_PREFIX + CATEGORIES[noun(n)]);
+                    product.addBatch();
+                }
+                product.executeBatch();
+                connection.commit();
+                progress.add(size);
+            }
+        }
+        progress.done();
+        return ids;
+    }
+
+    private long[] insertShippers(int count) throws SQLException {
+        long[] ids = nextIds("shipper", "shipper_id", count);
+        try (PreparedStatement shipper = connection.prepareStatement("INSERT INTO shipper (shipper_id, name, "
+                + "phone_number) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                shipper.setLong(1, ids[i]);
+                shipper.setString(2, DataSet.SHIPPER_PREFIX + (i + 1));
+                shipper.setString(3, String.format("0900%06d", i + 1));
+                shipper.addBatch();
+            }
+            shipper.executeBatch();
+        }
+        connection.commit();
+        return ids;
+    }
+
+    private void insertOrders(long count, long[] userIds, long[] productIds, int orderDays) throws SQLException {
+        Progress progress = new Progress("orders", count);
+        try (PreparedStatement order = connection.prepareStatement("INSERT INTO orders (order_id, user_id, order_date, "
+                + "status, total_amount) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement line = connection.prepareStatement("INSERT INTO order_item (order_item_id, order_id, "
+                     + "product_id, quantity, product_name, unit_price, line_total) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement link = connection.prepareStatement("INSERT INTO orders_order_item (orders_order_id, "
+                     + "order_item_order_item_id) VALUES (?, ?)")) {
+            for (long from = 0; from < count; from += batchSize) {
+                int size = (int) Math.min(batchSize, count - from);
+                long[] orderIds = nextIds("orders", "order_id", size);
+                int[] lines = new int[size];
+                int totalLines = 0;
+                for (int i = 0; i < size; i++) {
+                    lines[i] = 1 + random.nextInt(4);
+                    totalLines += lines[i];
+                }
+                long[] lineIds = nextIds("order_item", "order_item_id", totalLines);
+
+                int nextLine = 0;
+                for (int i = 0; i < size; i++) {
+                    double total = 0;
+                    for (int l = 0; l < lines[i]; l++) {
+                        int n = random.nextInt(productIds.length);
+                        int quantity = 1 + random.nextInt(3);
+                        double price = productPrice(n);
+                        long lineId = lineIds[nextLine++];
+                        line.setLong(1, lineId);
+                        line.setLong(2, orderIds[i]);
+                        line.setLong(3, productIds[n]);
+                        line.setInt(4, quantity);
+                        line.setString(5, productName(n));
+                        line.setDouble(6, price);
+                        line.setDouble(7, price * quantity);
+                        line.addBatch();
+                        link.setLong(1, orderIds[i]);
+                        link.setLong(2, lineId);
+                        link.addBatch();
+                        total += price * quantity;
+                    }
+                    LocalDateTime placed = now.minusMinutes(random.nextInt(orderDays * 24 * 60));
+                    order.setLong(1, orderIds[i]);
+                    order.setLong(2, userIds[random.nextInt(userIds.length)]);
+                    order.setTimestamp(3, Timestamp.valueOf(placed));
+                    order.setString(4, orderStatus(placed));
+                    order.setDouble(5, total);
+                    order.addBatch();
+                }
+                order.executeBatch();
+                line.executeBatch();
+                link.executeBatch();
+                connection.commit();
+                progress.add(size);
+            }
+        }
+        progress.done();
+    }
+
+    private void insertReviews(long count, long[] userIds, long[] productIds, int days) throws SQLException {
+        Progress progress = new Progress("reviews", count);
+        try (PreparedStatement review = connection.prepareStatement("INSERT INTO reviews (product_id, user_id, rating, "
+                + "comment, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (long from = 0; from < count; from += batchSize) {
+                int size = (int) Math.min(batchSize, count - from);
+                for (int i = 0; i < size; i++) {
+                    // a few popular products collect most reviews
+                    int n = (int) (Math.pow(random.nextDouble(), 3) * productIds.length);
+                    review.setLong(1, productIds[n]);
+                    review.setLong(2, userIds[random.nextInt(userIds.length)]);
+                    review.setInt(3, random.nextInt(10) < 7 ? 4 + random.nextInt(2) : 1 + random.nextInt(3));
+                    review.setString(4, pick(COMMENTS));
+                    review.setTimestamp(5, Timestamp.valueOf(now.minusMinutes(random.nextInt(days * 24 * 60))));
+                    review.addBatch();
+                }
+                review.executeBatch();
+                connection.commit();
+                progress.add(size);
+            }
+        }
+        progress.done();
+    }
+
+    /**
+     * Fresh statistics, so the first queries of the load test are planned for the loaded volumes
+     */
+    private void analyze() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[] {"users", "address", "products", "orders", "order_item",
+                    "orders_order_item", "reviews"}) {
+                statement.execute("ANALYZE " + table);
+            }
+        }
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * "Adjective Noun N" from the product number: names, prices and categories can be
+     * recomputed instead of kept in memory
+     */
+    private static String productName(int n) {
+        return ADJECTIVES[n % ADJECTIVES.length] + " " + NOUNS[noun(n)] + " " + (n + 1);
+    }
+
+    /**
+     * Index into NOUNS, and into CATEGORIES (one category per noun)
+     */
+    private static int noun(int n) {
+        return (n / ADJECTIVES.length) % NOUNS.length;
+    }
+
+    private static double productPrice(int n) {
+        return 5 + (n * 7919L % 49500) / 100.0;
+    }
+
+    /**
+     * Search terms LoadDriver sends: "adjective noun" plus the first digits of the product
+     * number, so each matches a few products (ContainingIgnoreCase), not a whole category
+     */
+    private List<String> keywords(int products) {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 200 && products > 0; i++) {
+            String name = productName(random.nextInt(products)).toLowerCase(Locale.ROOT);
+            keywords.add(name.substring(0, Math.min(name.length(), name.lastIndexOf(' ') + 3)));
+        }
+        return keywords;
+    }
+
+    /**
+     * Recent orders are still open, older ones delivered or (one in twenty) canceled
+     */
+    private String orderStatus(LocalDateTime placed) {
+        if (placed.isAfter(now.minusDays(2))) {
+            return "PENDING";
+        }
+        if (placed.isAfter(now.minusDays(7))) {
+            return "SHIPPED";
+        }
+        return random.nextInt(20) == 0 ? "CANCELED" : "DELIVERED";
+    }
+
+    private long[] nextIds(String table, String column, int count) throws SQLException {
+        long[] ids = new long[count];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence(?, ?)) FROM generate_series(1, ?)")) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            statement.setInt(3, count);
+            try (ResultSet rows = statement.executeQuery()) {
+                for (int i = 0; rows.next(); i++) {
+                    ids[i] = rows.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Consecutive ids collapsed into [first, last] ranges for the manifest
+     */
+    private static List<long[]> ranges(long[] ids) {
+        List<long[]> ranges = new ArrayList<>();
+        for (long id : ids) {
+            long[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] + 1 == id) {
+                last[1] = id;
+            } else {
+                ranges.add(new long[] {id, id});
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Rows per second for one table, printed every tenth of the way
+     */
+    private static final class Progress {
+
+        private final String table;
+
+        private final long total;
+
+        private final long start = System.nanoTime();
+
+        private long rows;
+
+        private long nextReport;
+
+        Progress(String table, long total) {
+            this.table = table;
+            this.total = total;
+            this.nextReport = Math.max(1, total / 10);
+        }
+
+        void add(int count) {
+            rows += count;
+            if (rows >= nextReport && rows < total) {
+                print();
+                nextReport += Math.max(1, total / 10);
+            }
+        }
+
+        void done() {
+            print();
+        }
+
+        private void print() {
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-9s %,12d / %,d rows  %7.1f s  %,10.0f rows/s%n", table, rows, total, seconds,
+                    rows / Math.max(seconds, 1e-9));
+        }
+    }
+}
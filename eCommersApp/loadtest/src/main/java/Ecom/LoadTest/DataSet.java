@@ -0,0 +1,62 @@
+package Ecom.LoadTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * What DataGenerator loaded, written next to the run so LoadDriver can address the data
+ * over HTTP: customer logins, product ids, categories, search keywords and carriers.
+ *
+ * @param emailFormat   String.format pattern of customer e-mails, numbered from 1
+ * @param password      plain password of every generated customer
+ * @param users         number of generated customers
+ * @param productIds    id ranges [first, last] of the generated products
+ * @param categories    generated category names
+ * @param keywords      search terms that match a handful of products each
+ * @param shipperIds    generated carriers, for the checkout flow
+ */
+record DataSet(String emailFormat, String password, int users, List<long[]> productIds,
+        List<String> categories, List<String> keywords, List<Long> shipperIds) {
+
+    static final String EMAIL_DOMAIN = "@loadtest.invalid";
+
+    static final String CATEGORY_PREFIX = "load-";
+
+    static final String SHIPPER_PREFIX = "Load Freight ";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    String email(int user) {
+        return String.format(emailFormat, user);
+    }
+
+    long productCount() {
+        return productIds.stream().mapToLong(range -> range[1] - range[0] + 1).sum();
+    }
+
+    /**
+     * The n-th generated product id, 0 <= n < productCount()
+     */
+    long productId(long n) {
+        for (long[] range : productIds) {
+            long size = range[1] - range[0] + 1;
+            if (n < size) {
+                return range[0] + n;
+            }
+            n -= size;
+        }
+        throw new IndexOutOfBoundsException("product " + n);
+    }
+
+    void write(File file) throws IOException {
+        MAPPER.writeValue(file, this);
+    }
+
+    static DataSet read(File file) throws IOException {
+        return MAPPER.readValue(file, DataSet.class);
+    }
+}
@@ -0,0 +1,451 @@
+package Ecom.LoadTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Replays shopper traffic against a running application and reports throughput and latency
+ * percentiles per endpoint
+ *
+ *   java -jar target/loadtest.jar [-base-url http://localhost:8080] [-vus 20] [-duration PT2M]
+ *        [-warmup PT30S] [-think-ms 0] [-mix browse=40,search=25,cart=15,checkout=10,review=10]
+ *
+ * Works on the data set DataGenerator described in -manifest. Each virtual user signs in once
+ * as its own generated customer (GET /ecom/signIn, so one BCrypt check per user) and then runs
+ * flows picked by the weights of -mix until the duration is over:
+ *
+ *   browse    product page: the product, then its reviews
+ *   search    keyword search (GET /ecom/products/all?keyword=)
+ *   cart      add a product to the cart, view the cart
+ *   checkout  add a product, check out (order, payment and shipping in one call with one of
+ *             the generated carriers), view the order history
+ *   review    read a product's reviews, post one
+ *   category  category listing; the API returns the whole category unpaged, so it is left
+ *             out of the default mix (add category=N to include it)
+ *
+ * Popular products are picked more often, as DataGenerator's reviews are. This is a closed
+ * model: each virtual user waits for its response (plus -think-ms) before the next request,
+ * so a slow server lowers the offered load instead of queueing requests; compare runs at the
+ * same -vus. Requests answered 429 by the rate limiter are counted apart from errors
+ * (POST /ecom/orders/checkout allows 10 per minute per customer, start the application with
+ * rate-limit.enabled=false to measure past it).
+ *
+ * Measurements start after -warmup. The summary is printed and written as JSON to -report.
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final String DEFAULT_MIX = "browse=40,search=25,cart=15,checkout=10,review=10";
+
+    private static final String[] PAYMENT_METHODS = {"UPI", "CREDIT_CARD", "CASH"};
+
+    private static final Set<String> FLOWS = Set.of("browse", "search", "category", "cart", "checkout", "review");
+
+    private final String baseUrl;
+
+    private final DataSet data;
+
+    private final HttpClient client;
+
+    private final Duration timeout;
+
+    private final long thinkMillis;
+
+    private final Map<String, Integer> mix;
+
+    private final int mixTotal;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+
+    private LoadDriver(String baseUrl, DataSet data, Duration timeout, long thinkMillis, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.data = data;
+        this.timeout = timeout;
+        this.thinkMillis = thinkMillis;
+        this.mix = mix;
+        this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String baseUrl = options.string("base-url", "http://localhost:" + Options.env("PORT", "8080"));
+        File manifest = new File(options.string("manifest", "loadtest-data.json"));
+        int vus = options.integer("vus", 20);
+        Duration duration = options.duration("duration", Duration.ofMinutes(2));
+        Duration warmup = options.duration("warmup", Duration.ofSeconds(30));
+        long thinkMillis = options.number("think-ms", 0);
+        Duration timeout = options.duration("timeout", Duration.ofSeconds(30));
+        long seed = options.number("seed", 7);
+        String mix = options.string("mix", DEFAULT_MIX);
+        File report = new File(options.string("report", "loadtest-report.json"));
+        options.rejectUnknown();
+
+        DataSet data = DataSet.read(manifest);
+        if (data.shipperIds() == null || data.shipperIds().isEmpty()) {
+            throw new IllegalStateException(manifest + " lists no shippers for the checkout flow, "
+                    + "regenerate it with DataGenerator -reset true (RESEED=1 in run-load-test.sh)");
+        }
+        LoadDriver driver = new LoadDriver(baseUrl, data, timeout, thinkMillis, parseMix(mix));
+        System.out.printf("%d virtual users against %s, %s warmup + %s measured, mix %s%n", vus, baseUrl,
+                warmup, duration, mix);
+
+        ExecutorService pool = Executors.newFixedThreadPool(vus);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int i = 0; i < vus; i++) {
+            // spread the virtual users over the generated customers
+            int customer = 1 + (int) ((long) i * data.users() / vus) % data.users();
+            SplittableRandom random = seeds.split();
+            pool.execute(() -> driver.runVirtualUser(customer, random));
+        }
+
+        Thread.sleep(warmup.toMillis());
+        driver.endpoints.values().forEach(Endpoint::reset);
+        Instant start = Instant.now();
+        Thread.sleep(duration.toMillis());
+        Map<String, Summary> results = driver.snapshot();
+        double seconds = Duration.between(start, Instant.now()).toNanos() / 1e9;
+
+        driver.running = false;
+        pool.shutdown();
+        pool.awaitTermination(timeout.toSeconds() + 5, TimeUnit.SECONDS);
+
+        print(results, seconds);
+        write(report, results, seconds, vus, mix, baseUrl);
+        System.out.println("Report written to " + report.getAbsolutePath());
+    }
+
+    private void runVirtualUser(int customer, SplittableRandom random) {
+        Session session;
+        try {
+            session = signIn(customer);
+        } catch (IOException e) {
+            System.err.println("sign in failed for " + data.email(customer) + ": " + e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        while (running) {
+            try {
+                runFlow(pickFlow(random), session, random);
+                if (thinkMillis > 0) {
+                    Thread.sleep(thinkMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void runFlow(String flow, Session session, SplittableRandom random) throws InterruptedException {
+        long product = pickProduct(random);
+        switch (flow) {
+            case "browse":
+                get(session, "GET /ecom/products/{productId}", "/ecom/products/" + product);
+                get(session, "GET /ecom/product-reviews/{productId}", "/ecom/product-reviews/" + product);
+                break;
+            case "search":
+                get(session, "GET /ecom/products/all?keyword", "/ecom/products/all?keyword="
+                        + URLEncoder.encode(pick(data.keywords(), random), StandardCharsets.UTF_8));
+                break;
+            case "category":
+                get(session, "GET /ecom/products/category/{category}",
+                        "/ecom/products/category/" + pick(data.categories(), random));
+                break;
+            case "cart": {
+                JsonNode cart = addToCart(session, product);
+                if (cart != null) {
+                    get(session, "GET /ecom/cart/products/{cartId}", "/ecom/cart/products/" + cart.path("cartId").asInt());
+                }
+                break;
+            }
+            case "checkout": {
+                addToCart(session, product);
+                String body = "{\"shipperId\":" + pick(data.shipperIds(), random)
+                        + ",\"paymentMethod\":\"" + PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)] + "\""
+                        + ",\"address\":\"" + (1 + random.nextInt(300)) + " Load Street\",\"city\":\"Hanoi\""
+                        + ",\"state\":\"HN\",\"country\":\"Vietnam\",\"postalCode\":\"100000\"}";
+                send(session, "POST /ecom/orders/checkout/{userId}",
+                        request(session, "/ecom/orders/checkout/" + session.userId())
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body)));
+                get(session, "GET /ecom/orders/orders/{userId}", "/ecom/orders/orders/" + session.userId());
+                break;
+            }
+            case "review": {
+                get(session, "GET /ecom/product-reviews/{productId}", "/ecom/product-reviews/" + product);
+                String body = "{\"rating\":" + (1 + random.nextInt(5)) + ",\"comment\":\"Load test review\"}";
+                send(session, "POST /ecom/product-reviews/{productId}/{userId}",
+                        request(session, "/ecom/product-reviews/" + product + "/" + session.userId())
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body)));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown flow " + flow);
+        }
+    }
+
+    private JsonNode addToCart(Session session, long product) throws InterruptedException {
+        return send(session, "POST /ecom/cart/add-product",
+                request(session, "/ecom/cart/add-product?userId=" + session.userId() + "&productId=" + product)
+                        .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private JsonNode get(Session session, String endpoint, String path) throws InterruptedException {
+        return send(session, endpoint, request(session, path).GET());
+    }
+
+    private HttpRequest.Builder request(Session session, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + session.token());
+    }
+
+    /**
+     * Send, time and classify one request
+     *
+     * @return the parsed body of a 2xx JSON response, otherwise null
+     */
+    private JsonNode send(Session session, String endpoint, HttpRequest.Builder request) throws InterruptedException {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - start, 0);
+            return null;
+        }
+        stats.record(System.nanoTime() - start, response.statusCode());
+        if (response.statusCode() / 100 != 2 || response.body().length == 0) {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Session signIn(int customer) throws IOException, InterruptedException {
+        String credentials = data.email(customer) + ":" + data.password();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/ecom/signIn"))
+                .timeout(timeout)
+                .header("Authorization", "Basic "
+                        + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)))
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        JsonNode body = MAPPER.readTree(response.body());
+        return new Session(body.path("id").asInt(), body.path("token").asText());
+    }
+
+    private String pickFlow(SplittableRandom random) {
+        int ticket = random.nextInt(mixTotal);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("empty mix");
+    }
+
+    /**
+     * Skewed towards the first generated products, the ones DataGenerator gave most reviews
+     */
+    private long pickProduct(SplittableRandom random) {
+        return data.productId((long) (Math.pow(random.nextDouble(), 3) * data.productCount()));
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] flow = part.trim().split("=");
+            if (flow.length != 2 || !FLOWS.contains(flow[0])) {
+                throw new IllegalArgumentException("expected flow=weight with a flow out of " + FLOWS + ", got " + part);
+            }
+            weights.put(flow[0], Integer.parseInt(flow[1]));
+        }
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("no flow with a positive weight in -mix " + mix);
+        }
+        return weights;
+    }
+
+    private Map<String, Summary> snapshot() {
+        Map<String, Summary> results = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> results.put(name, endpoint.summary()));
+        return results;
+    }
+
+    private static void print(Map<String, Summary> results, double seconds) {
+        System.out.printf("%n%-48s %8s %8s %6s %6s %6s %9s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Req/s",
+                "4xx", "429", "5xx+io", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, Summary> entry : results.entrySet()) {
+            Summary s = entry.getValue();
+            System.out.printf("%-48s %8d %8.1f %6d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    s.requests(), s.requests() / seconds, s.clientErrors(), s.throttled(),
+                    s.serverErrors() + s.ioErrors(), s.percentile(50), s.percentile(90), s.percentile(99),
+                    s.percentile(99.9), s.max());
+        }
+        long total = results.values().stream().mapToLong(Summary::requests).sum();
+        System.out.printf("%-48s %8d %8.1f%n", "total", total, total / seconds);
+        if (results.values().stream().anyMatch(s -> s.throttled() > 0)) {
+            System.out.println("Some requests were rate limited (429); see the LoadDriver notes on rate-limit.enabled.");
+        }
+    }
+
+    private static void write(File report, Map<String, Summary> results, double seconds, int vus, String mix,
+            String baseUrl) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("finishedAt", Instant.now().toString());
+        root.put("baseUrl", baseUrl);
+        root.put("virtualUsers", vus);
+        root.put("mix", mix);
+        root.put("measuredSeconds", seconds);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        results.forEach((name, s) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", name);
+            row.put("requests", s.requests());
+            row.put("throughputPerSecond", s.requests() / seconds);
+            row.put("clientErrors", s.clientErrors());
+            row.put("throttled", s.throttled());
+            row.put("serverErrors", s.serverErrors());
+            row.put("ioErrors", s.ioErrors());
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("mean", s.histogram().getMean() / 1000);
+            latency.put("p50", s.percentile(50));
+            latency.put("p90", s.percentile(90));
+            latency.put("p95", s.percentile(95));
+            latency.put("p99", s.percentile(99));
+            latency.put("p99.9", s.percentile(99.9));
+            latency.put("max", s.max());
+            row.put("latencyMillis", latency);
+            rows.add(row);
+        });
+        root.put("endpoints", rows);
+        MAPPER.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, root);
+    }
+
+    private record Session(int userId, String token) {
+    }
+
+    /**
+     * Latencies and outcomes of one endpoint; reset() starts a new interval
+     */
+    private static final class Endpoint {
+
+        private final Recorder latencies = new Recorder(MAX_LATENCY_MICROS, 3);
+
+        private final LongAdder ok = new LongAdder();
+
+        private final LongAdder clientErrors = new LongAdder();
+
+        private final LongAdder throttled = new LongAdder();
+
+        private final LongAdder serverErrors = new LongAdder();
+
+        private final LongAdder ioErrors = new LongAdder();
+
+        /**
+         * @param status HTTP status, 0 when the request failed without a response
+         */
+        void record(long nanos, int status) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_MICROS));
+            if (status == 0) {
+                ioErrors.increment();
+            } else if (status == 429) {
+                throttled.increment();
+            } else if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            } else {
+                ok.increment();
+            }
+        }
+
+        void reset() {
+            latencies.reset();
+            ok.reset();
+            clientErrors.reset();
+            throttled.reset();
+            serverErrors.reset();
+            ioErrors.reset();
+        }
+
+        Summary summary() {
+            Histogram histogram = latencies.getIntervalHistogram();
+            return new Summary(histogram, ok.sum(), clientErrors.sum(), throttled.sum(), serverErrors.sum(),
+                    ioErrors.sum());
+        }
+    }
+
+    /**
+     * Latencies in microseconds; the accessors report milliseconds
+     */
+    private record Summary(Histogram histogram, long ok, long clientErrors, long throttled, long serverErrors,
+            long ioErrors) {
+
+        long requests() {
+            return ok + clientErrors + throttled + serverErrors + ioErrors;
+        }
+
+        double percentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double max() {
+            return histogram.getMaxValue() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package Ecom.LoadTest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * "-name value" command line options with defaults; unknown names are rejected so a typo
+ * does not silently run with the default
+ */
+final class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private final Set<String> known = new TreeSet<>();
+
+    Options(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("-") || i + 1 == args.length) {
+                throw new IllegalArgumentException("expected -name value pairs, got " + args[i]);
+            }
+            values.put(args[i].substring(1), args[++i]);
+        }
+    }
+
+    String string(String name, String defaultValue) {
+        known.add(name);
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int integer(String name, int defaultValue) {
+        return Integer.parseInt(string(name, String.valueOf(defaultValue)));
+    }
+
+    long number(String name, long defaultValue) {
+        return Long.parseLong(string(name, String.valueOf(defaultValue)));
+    }
+
+    boolean flag(String name) {
+        return Boolean.parseBoolean(string(name, "false"));
+    }
+
+    /**
+     * ISO-8601 duration (PT5M) or plain seconds
+     */
+    Duration duration(String name, Duration defaultValue) {
+        String value = string(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value.startsWith("P") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Call after reading every option
+     */
+    void rejectUnknown() {
+        for (String name : values.keySet()) {
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("unknown option -" + name + ", known: " + known);
+            }
+        }
+    }
+
+    static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
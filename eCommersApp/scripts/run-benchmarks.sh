@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Installs the application, builds the JMH module against it and records its results as JSON, one file per commit.
+#
+#   ./scripts/run-benchmarks.sh                   all benchmarks
+#   ./scripts/run-benchmarks.sh JwtTokenBenchmark only benchmarks matching the regexp
+#
+# Results go to benchmarks/results/<commit>.json (JMH -rf json; "-dirty" is appended when the
+# working tree has local changes). With BASELINE=<commit or file> the run is compared against
+# that result; the script exits non-zero when a benchmark regressed by more than THRESHOLD
+# percent (default 10) outside the error margins. MVN overrides the maven command.
+set -euo pipefail
+
+APP_DIR=$(cd "$(dirname "$0")/.." && pwd)
+BENCH_DIR="$APP_DIR/benchmarks"
+RESULTS_DIR="$BENCH_DIR/results"
+THRESHOLD=${THRESHOLD:-10}
+
+commit=$(git -C "$APP_DIR" rev-parse --short HEAD)
+if [ -n "$(git -C "$APP_DIR" status --porcelain -- src benchmarks/src)" ]; then
+    commit="$commit-dirty"
+fi
+
+# shellcheck disable=SC2086
+(cd "$APP_DIR" && ${MVN:-mvn} -B -q install -DskipTests)
+# shellcheck disable=SC2086
+(cd "$BENCH_DIR" && ${MVN:-mvn} -B -q package -DskipTests)
+
+mkdir -p "$RESULTS_DIR"
+result="$RESULTS_DIR/$commit.json"
+java -jar "$BENCH_DIR/target/benchmarks.jar" -rf json -rff "$result" "$@"
+echo "Results written to $result"
+
+if [ -n "${BASELINE:-}" ]; then
+    baseline=$BASELINE
+    [ -f "$baseline" ] || baseline="$RESULTS_DIR/$BASELINE.json"
+    java -cp "$BENCH_DIR/target/benchmarks.jar" Ecom.Benchmark.BenchmarkDiff "$baseline" "$result" "$THRESHOLD"
+fi
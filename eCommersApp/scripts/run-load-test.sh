@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# One-box load test: starts the application against the local database, seeds it with
+# synthetic data on the first run, drives it with LoadDriver and stops it again.
+#
+#   ./scripts/run-load-test.sh                          defaults (20 virtual users, 2 minutes)
+#   ./scripts/run-load-test.sh -vus 100 -duration PT10M arguments go to LoadDriver
+#   RESEED=1 USERS=100000 PRODUCTS=1000000 ORDERS=2000000 REVIEWS=3000000 ./scripts/run-load-test.sh
+#
+# Data set and report live in loadtest/run/ (loadtest-data.json, loadtest-report.json,
+# app.log). The seed step runs when no data set exists yet or RESEED=1 (it replaces the
+# previous synthetic data). APP_ARGS are passed to the application; by default the rate
+# limiter is off so checkout throughput is not capped per customer. The synthetic data stays
+# in the database afterwards; "DataGenerator -clean true" removes it before running the tests.
+set -euo pipefail
+
+APP_DIR=$(cd "$(dirname "$0")/.." && pwd)
+LOAD_DIR="$APP_DIR/loadtest"
+RUN_DIR="$LOAD_DIR/run"
+PORT=${PORT:-8080}
+MVN=${MVN:-mvn}
+APP_ARGS=${APP_ARGS:---rate-limit.enabled=false}
+
+mkdir -p "$RUN_DIR"
+# shellcheck disable=SC2086
+(cd "$APP_DIR" && $MVN -B -q package -DskipTests)
+# shellcheck disable=SC2086
+(cd "$LOAD_DIR" && $MVN -B -q package -DskipTests)
+
+# shellcheck disable=SC2086
+java -jar "$APP_DIR/target/Ecom-0.0.1-SNAPSHOT.jar" --server.port="$PORT" $APP_ARGS > "$RUN_DIR/app.log" 2>&1 &
+app_pid=$!
+trap 'kill "$app_pid" 2>/dev/null; wait "$app_pid" 2>/dev/null || true' EXIT
+
+echo "Waiting for the application on port $PORT (log: $RUN_DIR/app.log)"
+for _ in $(seq 1 120); do
+    if curl -fs "http://localhost:$PORT/actuator/health" > /dev/null 2>&1; then
+        break
+    fi
+    if ! kill -0 "$app_pid" 2>/dev/null; then
+        echo "Application exited, see $RUN_DIR/app.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+# after startup, so Flyway has migrated the schema the generator writes to
+if [ ! -f "$RUN_DIR/loadtest-data.json" ] || [ "${RESEED:-0}" = "1" ]; then
+    java -cp "$LOAD_DIR/target/loadtest.jar" Ecom.LoadTest.DataGenerator -reset true \
+        -users "${USERS:-10000}" -products "${PRODUCTS:-10000}" -orders "${ORDERS:-50000}" \
+        -reviews "${REVIEWS:-50000}" -manifest "$RUN_DIR/loadtest-data.json"
+fi
+
+java -jar "$LOAD_DIR/target/loadtest.jar" -base-url "http://localhost:$PORT" \
+    -manifest "$RUN_DIR/loadtest-data.json" -report "$RUN_DIR/loadtest-report.json" "$@"
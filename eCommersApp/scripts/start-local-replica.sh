@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Local two-instance setup: clones the local PostgreSQL primary into a streaming read replica.
+#
+#   ./scripts/start-local-replica.sh         start (re-cloning the primary)
+#   ./scripts/start-local-replica.sh stop    stop the replica
+#
+# Then run the app with DB_REPLICA_URLS=jdbc:postgresql://localhost:5433/ecommerce.
+# ReplicaRoutingTest uses the same ports and is skipped while no replica is running.
+#
+# The primary must allow replication connections from localhost for DB_USER
+# (the default pg_hba.conf of a local install does).
+set -euo pipefail
+
+PRIMARY_HOST=${DB_HOST:-localhost}
+PRIMARY_PORT=${DB_PORT:-5432}
+REPLICA_PORT=${REPLICA_PORT:-5433}
+REPLICA_DIR=${REPLICA_DIR:-/tmp/ecommerce-replica}
+DB_USER=${DB_USER:-postgres}
+PG_BIN=${PG_BIN:-$(dirname "$(command -v pg_ctl)")}
+
+stop_replica() {
+    if [ -f "$REPLICA_DIR/postmaster.pid" ]; then
+        "$PG_BIN/pg_ctl" -D "$REPLICA_DIR" -m fast stop
+    fi
+}
+
+if [ "${1:-start}" = "stop" ]; then
+    stop_replica
+    exit 0
+fi
+
+stop_replica
+rm -rf "$REPLICA_DIR"
+
+# -R writes standby.signal and primary_conninfo, so the copy starts as a streaming standby
+PGPASSWORD=${DB_PASSWORD:-} "$PG_BIN/pg_basebackup" -h "$PRIMARY_HOST" -p "$PRIMARY_PORT" -U "$DB_USER" \
+    -D "$REPLICA_DIR" -X stream -R
+chmod 700 "$REPLICA_DIR"
+echo "port = $REPLICA_PORT" >> "$REPLICA_DIR/postgresql.auto.conf"
+
+"$PG_BIN/pg_ctl" -D "$REPLICA_DIR" -l "$REPLICA_DIR/replica.log" -o "-k $REPLICA_DIR" -w start
+echo "Replica streaming from $PRIMARY_HOST:$PRIMARY_PORT on localhost:$REPLICA_PORT ($REPLICA_DIR)"
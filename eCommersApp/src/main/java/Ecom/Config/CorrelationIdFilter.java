@@ -0,0 +1,66 @@
+package Ecom.Config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Correlation Id Filter
+ * Gives every request an id, put in the logging MDC as requestId (so each log line of the
+ * request carries it, security filters included) and echoed in the X-Request-Id response
+ * header. An X-Request-Id sent by a proxy or client is kept when it is a short token;
+ * otherwise a random 64-bit hex id is generated.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Request-Id";
+
+	public static final String MDC_KEY = "requestId";
+
+	private static final int MAX_LENGTH = 64;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+		String requestId = request.getHeader(HEADER);
+		if (!isWellFormed(requestId)) {
+			requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		}
+		response.setHeader(HEADER, requestId);
+		MDC.put(MDC_KEY, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+
+	/**
+	 * Letters, digits, '-', '_' and '.' only, so a client cannot inject into the log lines
+	 */
+	static boolean isWellFormed(String requestId) {
+		if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < requestId.length(); i++) {
+			char c = requestId.charAt(i);
+			if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+					|| c == '-' || c == '_' || c == '.')) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
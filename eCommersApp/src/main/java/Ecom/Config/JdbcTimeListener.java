@@ -0,0 +1,82 @@
+package Ecom.Config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time each Hibernate session spends in JDBC - waiting for a pooled connection,
+ * preparing, executing and batching statements - to a per-thread running total, so
+ * ServiceTimingAspect can split a service call into database and in-process time.
+ *
+ * Registered for every session through hibernate.session.events.auto. Hibernate nests some
+ * of these phases (a connection is acquired while the first statement is prepared), so only
+ * the outermost phase is timed.
+ */
+public class JdbcTimeListener implements SessionEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<long[]> ELAPSED = ThreadLocal.withInitial(() -> new long[1]);
+
+	private transient int depth;
+
+	private transient long startedAt;
+
+	/**
+	 * JDBC nanoseconds spent so far on the calling thread; callers take the difference of two reads
+	 */
+	public static long elapsedNanos() {
+		return ELAPSED.get()[0];
+	}
+
+	private void phaseStart() {
+		if (depth++ == 0) {
+			startedAt = System.nanoTime();
+		}
+	}
+
+	private void phaseEnd() {
+		if (depth > 0 && --depth == 0) {
+			ELAPSED.get()[0] += System.nanoTime() - startedAt;
+		}
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionStart() {
+		phaseStart();
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionEnd() {
+		phaseEnd();
+	}
+
+	@Override
+	public void jdbcPrepareStatementStart() {
+		phaseStart();
+	}
+
+	@Override
+	public void jdbcPrepareStatementEnd() {
+		phaseEnd();
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		phaseStart();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		phaseEnd();
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		phaseStart();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		phaseEnd();
+	}
+}
@@ -0,0 +1,53 @@
+package Ecom.Config;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import Ecom.Service.OrderArchiveService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Nightly job moving orders older than the configured horizon into the archive tables.
+ * Each batch is its own transaction, and a run stops after {@code max-batches} batches
+ * so a large backlog is drained over several nights instead of one long lock-heavy run.
+ * Several instances may run it at once: each batch locks its rows and skips rows locked
+ * by another instance, so no order is archived twice.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true")
+public class OrderArchiveJob {
+
+	private static final Logger log = LoggerFactory.getLogger(OrderArchiveJob.class);
+
+	private final OrderArchiveService orderArchiveService;
+
+	@Value("${orders.archive.horizon-days:365}")
+	private int horizonDays;
+
+	@Value("${orders.archive.batch-size:500}")
+	private int batchSize;
+
+	@Value("${orders.archive.max-batches:20}")
+	private int maxBatches;
+
+	@Scheduled(cron = "${orders.archive.cron:0 30 3 * * *}")
+	public void archiveColdOrders() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(horizonDays);
+		int total = 0;
+		for (int i = 0; i < maxBatches; i++) {
+			int moved = orderArchiveService.archiveBatch(cutoff, batchSize);
+			total += moved;
+			if (moved < batchSize) {
+				break;
+			}
+		}
+		log.info("Archived {} orders placed before {}", total, cutoff);
+	}
+}
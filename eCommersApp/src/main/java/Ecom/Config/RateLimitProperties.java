@@ -0,0 +1,72 @@
+package Ecom.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Rate limit configuration (prefix "rate-limit").
+ * Each route gets its own token buckets: {@code capacity} requests in a burst,
+ * refilled at {@code refill-per-minute}, counted per client IP, per login account or per user.
+ * A path may be listed once per key type; every matching route must have a token.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * Upper bound on live buckets across all routes; least recently used ones are dropped first
+	 */
+	private int maxKeys = 100_000;
+
+	/**
+	 * Buckets untouched for this long are evicted (a full bucket carries no state worth keeping)
+	 */
+	private Duration idleTimeout = Duration.ofMinutes(10);
+
+	private List<Route> routes = new ArrayList<>();
+
+	public enum KeyType {
+		/**
+		 * Client address
+		 */
+		IP,
+		/**
+		 * Account named by a login attempt (HTTP Basic user name or the JSON "email"), so guessing
+		 * one account's password is throttled across addresses; requests naming none are not counted
+		 */
+		ACCOUNT,
+		/**
+		 * Authenticated user name, falling back to the client address for anonymous calls
+		 */
+		USER
+	}
+
+	@Data
+	public static class Route {
+
+		/**
+		 * HTTP method, empty for any
+		 */
+		private String method;
+
+		/**
+		 * Ant-style path pattern, e.g. /ecom/orders/placed/**
+		 */
+		private String pattern;
+
+		private KeyType key = KeyType.IP;
+
+		private int capacity = 10;
+
+		private double refillPerMinute = 10;
+	}
+}
@@ -0,0 +1,29 @@
+package Ecom.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import Ecom.Service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Nightly cleanup of the refresh token registry.
+ * Expired tokens no longer need to be denylisted, so they are deleted and the
+ * in-memory revocation filter is rebuilt from what is left.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+	private final RefreshTokenService refreshTokenService;
+
+	@Scheduled(cron = "${security.refresh-token.purge-cron:0 0 4 * * *}")
+	public void purgeExpiredTokens() {
+		int deleted = refreshTokenService.purgeExpired();
+		log.info("Purged {} expired refresh tokens", deleted);
+	}
+}
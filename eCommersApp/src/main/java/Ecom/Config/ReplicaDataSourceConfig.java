@@ -0,0 +1,75 @@
+package Ecom.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primary + read replica data sources, active once replica.urls is set.
+ * Replaces Boot's single pool with: the primary pool (still configured by spring.datasource.*),
+ * one pool per replica, and the routing data source in front of them. Flyway, Hibernate
+ * validation and every write transaction keep using the primary.
+ * Each pool reports hikaricp.* metrics under its pool name (primary, replica-1, ...).
+ */
+@Configuration
+@ConditionalOnExpression("!'${replica.urls:}'.isEmpty()")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+			DataSourceProperties properties, ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+		List<HikariDataSource> replicas = new ArrayList<>();
+		int index = 1;
+		for (String url : replicaProperties.getUrls()) {
+			HikariDataSource replica = new HikariDataSource();
+			replica.setPoolName("replica-" + index++);
+			replica.setJdbcUrl(url.trim());
+			replica.setDriverClassName(properties.determineDriverClassName());
+			replica.setUsername(StringUtils.hasText(replicaProperties.getUsername())
+					? replicaProperties.getUsername() : properties.determineUsername());
+			replica.setPassword(StringUtils.hasText(replicaProperties.getUsername())
+					? replicaProperties.getPassword() : properties.determinePassword());
+			replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+			replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+			replica.setReadOnly(true);
+			replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+			replicas.add(replica);
+		}
+		return new ReplicaRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+			ReplicaProperties replicaProperties) {
+		return new ReplicaLagMonitor(replicaRoutingDataSource, replicaProperties.getMaxLag());
+	}
+}
@@ -0,0 +1,82 @@
+package Ecom.Config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import Ecom.Config.ReplicaRoutingDataSource.Replica;
+
+/**
+ * Replica lag guard.
+ * Polls every replica and keeps in rotation only those streaming from the primary and at
+ * most {@code replica.max-lag} behind it. A replica that cannot be reached, has lost its WAL
+ * stream or lags too far drops out, and its reads go to the primary until a later check passes.
+ */
+public class ReplicaLagMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	/**
+	 * A replica that has replayed everything it received is current; otherwise it is as far
+	 * behind as its last replayed transaction is old. A server not in recovery is its own primary.
+	 */
+	private static final String LAG_QUERY = "SELECT pg_is_in_recovery(), "
+			+ "EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming'), "
+			+ "pg_last_wal_receive_lsn() IS NOT DISTINCT FROM pg_last_wal_replay_lsn(), "
+			+ "EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())";
+
+	private final ReplicaRoutingDataSource routingDataSource;
+
+	private final Duration maxLag;
+
+	public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag) {
+		this.routingDataSource = routingDataSource;
+		this.maxLag = maxLag;
+	}
+
+	@Scheduled(initialDelay = 0, fixedDelayString = "${replica.check-interval:PT2S}")
+	public void checkReplicas() {
+		for (Replica replica : routingDataSource.getReplicas()) {
+			check(replica);
+		}
+	}
+
+	private void check(Replica replica) {
+		double lagSeconds;
+		try {
+			lagSeconds = new JdbcTemplate(replica.getDataSource()).queryForObject(LAG_QUERY, (rs, row) -> {
+				if (!rs.getBoolean(1)) {
+					return 0.0;
+				}
+				if (!rs.getBoolean(2)) {
+					return Double.POSITIVE_INFINITY;
+				}
+				if (rs.getBoolean(3)) {
+					return 0.0;
+				}
+				double replayAge = rs.getDouble(4);
+				return rs.wasNull() ? Double.POSITIVE_INFINITY : replayAge;
+			});
+		} catch (RuntimeException e) {
+			if (replica.isHealthy()) {
+				log.warn("Replica {} unreachable, reads fall back to the primary: {}", replica.getName(), e.getMessage());
+			}
+			replica.update(false, Double.NaN);
+			return;
+		}
+
+		boolean healthy = lagSeconds * 1000 <= maxLag.toMillis();
+		if (healthy != replica.isHealthy()) {
+			if (healthy) {
+				log.info("Replica {} back in rotation (lag {}s)", replica.getName(), lagSeconds);
+			} else {
+				log.warn("Replica {} lags {}s behind the primary (max {}), reads fall back to the primary",
+						replica.getName(), lagSeconds, maxLag);
+			}
+		}
+		replica.update(healthy, lagSeconds);
+	}
+}
@@ -0,0 +1,45 @@
+package Ecom.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Read replica configuration (prefix "replica").
+ * With no urls every transaction uses the single primary pool; with one or more urls,
+ * {@link ReplicaRead} methods are served by the replicas whose lag is within {@code max-lag}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaProperties {
+
+	/**
+	 * JDBC urls of the streaming replicas, e.g. jdbc:postgresql://replica-1:5432/ecommerce
+	 */
+	private List<String> urls = new ArrayList<>();
+
+	/**
+	 * Credentials for the replicas; blank means the primary's spring.datasource credentials
+	 */
+	private String username;
+
+	private String password;
+
+	private int maximumPoolSize = 10;
+
+	/**
+	 * Kept short so a replica that went away fails over quickly instead of holding request threads
+	 */
+	private Duration connectionTimeout = Duration.ofSeconds(2);
+
+	/**
+	 * Replicas further behind the primary than this are taken out of rotation until they catch up
+	 */
+	private Duration maxLag = Duration.ofSeconds(5);
+}
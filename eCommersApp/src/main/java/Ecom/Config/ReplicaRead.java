@@ -0,0 +1,22 @@
+package Ecom.Config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read-only transaction that may be served by a read replica.
+ * Only methods carrying this annotation leave the primary: plain read-only transactions
+ * (e.g. repository finds inside a write flow) keep reading their own writes.
+ * Results can trail the primary by up to replica.max-lag.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,30 @@
+package Ecom.Config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the calling thread while a {@link ReplicaRead} method runs, so the routing
+ * data source may hand its read-only transaction a replica connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+	@Around("@annotation(Ecom.Config.ReplicaRead)")
+	public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+		boolean outer = ReplicaRoutingDataSource.enterReplicaRead();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			if (outer) {
+				ReplicaRoutingDataSource.exitReplicaRead();
+			}
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package Ecom.Config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+/**
+ * Routes each connection to the primary or to a read replica.
+ * A connection goes to a replica only inside a read-only transaction opened by a
+ * {@link ReplicaRead} method, and only to a replica the {@link ReplicaLagMonitor} currently
+ * considers healthy (round robin among those); everything else, including the fallback when
+ * no replica qualifies, uses the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction manager asks for the
+ * connection before the read-only flag is published, the proxy defers that until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	public static final String PRIMARY = "primary";
+
+	private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+	/**
+	 * One replica pool and the lag guard's latest verdict on it
+	 */
+	@Getter
+	public static class Replica {
+
+		private final String name;
+
+		private final HikariDataSource dataSource;
+
+		private final Counter routed;
+
+		/**
+		 * Out of rotation until the first lag check passes
+		 */
+		private volatile boolean healthy;
+
+		/**
+		 * Seconds behind the primary at the last check, NaN when unknown
+		 */
+		private volatile double lagSeconds = Double.NaN;
+
+		Replica(String name, HikariDataSource dataSource, MeterRegistry meterRegistry) {
+			this.name = name;
+			this.dataSource = dataSource;
+			this.routed = routedCounter(meterRegistry, name, true);
+			Gauge.builder("ecom.datasource.replica.lag", this, Replica::getLagSeconds)
+					.description("Replication lag of the replica at the last check")
+					.baseUnit("seconds")
+					.tag("pool", name)
+					.register(meterRegistry);
+			Gauge.builder("ecom.datasource.replica.healthy", this, replica -> replica.isHealthy() ? 1 : 0)
+					.description("1 while the replica is in rotation for read-only transactions")
+					.tag("pool", name)
+					.register(meterRegistry);
+		}
+
+		void update(boolean healthy, double lagSeconds) {
+			this.lagSeconds = lagSeconds;
+			this.healthy = healthy;
+		}
+	}
+
+	@Getter
+	private final HikariDataSource primary;
+
+	@Getter
+	private final List<Replica> replicas;
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	private final Counter primaryWrites;
+
+	private final Counter primaryReads;
+
+	public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+			MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replicas = replicaPools.stream()
+				.map(pool -> new Replica(pool.getPoolName(), pool, meterRegistry))
+				.toList();
+		this.primaryWrites = routedCounter(meterRegistry, PRIMARY, false);
+		this.primaryReads = routedCounter(meterRegistry, PRIMARY, true);
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+	}
+
+	/**
+	 * @return true if this call opened the replica read scope and must close it
+	 */
+	static boolean enterReplicaRead() {
+		if (REPLICA_READ.get() != null) {
+			return false;
+		}
+		REPLICA_READ.set(Boolean.TRUE);
+		return true;
+	}
+
+	static void exitReplicaRead() {
+		REPLICA_READ.remove();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			primaryWrites.increment();
+			return PRIMARY;
+		}
+		if (REPLICA_READ.get() != null) {
+			Replica replica = pickHealthyReplica();
+			if (replica != null) {
+				replica.getRouted().increment();
+				return replica.getName();
+			}
+		}
+		primaryReads.increment();
+		return PRIMARY;
+	}
+
+	private Replica pickHealthyReplica() {
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.isHealthy()) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replica pools are owned here; the primary pool is a bean of its own
+	 */
+	@Override
+	public void destroy() {
+		replicas.forEach(replica -> replica.getDataSource().close());
+	}
+
+	private static Counter routedCounter(MeterRegistry meterRegistry, String pool, boolean readOnly) {
+		return Counter.builder("ecom.datasource.routed")
+				.description("Connections handed out per pool and transaction type")
+				.tag("pool", pool)
+				.tag("readOnly", String.valueOf(readOnly))
+				.register(meterRegistry);
+	}
+}
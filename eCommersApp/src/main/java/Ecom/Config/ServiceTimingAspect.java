@@ -0,0 +1,128 @@
+package Ecom.Config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times every method declared on an Ecom.Service interface, as called through the service bean:
+ *
+ *   ecom.service       whole call; tags service, method, outcome (success/error), exception
+ *   ecom.service.db    part of the call spent in JDBC (connection wait, prepare, execute, batch)
+ *   ecom.service.app   the rest: in-process work, serialization, lock waits outside the database
+ *
+ * The database share comes from JdbcTimeListener. Calls from one service into another are
+ * timed on both, so nested time is included in the caller. Percentile histograms and
+ * expected ranges are configured under management.metrics.distribution.*.ecom.service.
+ *
+ *   /actuator/metrics/ecom.service?tag=service:OrdersService&tag=method:placeOrder
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ServiceTimingAspect {
+
+	static final String CALLS = "ecom.service";
+
+	static final String DB = "ecom.service.db";
+
+	static final String APP = "ecom.service.app";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+	@Around("execution(* Ecom.Service.*.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		MethodMeters methodMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+				method -> new MethodMeters(serviceName(joinPoint, method), method.getName()));
+		long dbBefore = JdbcTimeListener.elapsedNanos();
+		long start = System.nanoTime();
+		Throwable failure = null;
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable ex) {
+			failure = ex;
+			throw ex;
+		} finally {
+			long total = System.nanoTime() - start;
+			long db = Math.min(JdbcTimeListener.elapsedNanos() - dbBefore, total);
+			methodMeters.record(total, db, failure);
+		}
+	}
+
+	/**
+	 * The Ecom.Service interface declaring the method, not the implementing class
+	 */
+	private static String serviceName(ProceedingJoinPoint joinPoint, Method method) {
+		for (Class<?> type : joinPoint.getTarget().getClass().getInterfaces()) {
+			if (type.getPackageName().equals("Ecom.Service")) {
+				try {
+					type.getMethod(method.getName(), method.getParameterTypes());
+					return type.getSimpleName();
+				} catch (NoSuchMethodException notDeclaredHere) {
+					// keep looking
+				}
+			}
+		}
+		return joinPoint.getSignature().getDeclaringType().getSimpleName();
+	}
+
+	private final class MethodMeters {
+
+		private final Tags tags;
+
+		private final Timer success;
+
+		private final Timer db;
+
+		private final Timer app;
+
+		private final Map<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+		MethodMeters(String service, String method) {
+			this.tags = Tags.of("service", service, "method", method);
+			this.success = callTimer("success", "none");
+			this.db = Timer.builder(DB)
+					.description("Service method time spent in JDBC")
+					.tags(tags)
+					.register(meterRegistry);
+			this.app = Timer.builder(APP)
+					.description("Service method time spent outside JDBC")
+					.tags(tags)
+					.register(meterRegistry);
+		}
+
+		void record(long totalNanos, long dbNanos, Throwable failure) {
+			Timer calls = failure == null ? success
+					: errors.computeIfAbsent(failure.getClass(), type -> callTimer("error", type.getSimpleName()));
+			calls.record(totalNanos, TimeUnit.NANOSECONDS);
+			db.record(dbNanos, TimeUnit.NANOSECONDS);
+			app.record(totalNanos - dbNanos, TimeUnit.NANOSECONDS);
+		}
+
+		private Timer callTimer(String outcome, String exception) {
+			return Timer.builder(CALLS)
+					.description("Service method calls")
+					.tags(tags)
+					.tag("outcome", outcome)
+					.tag("exception", exception)
+					.register(meterRegistry);
+		}
+	}
+}
@@ -2,19 +2,31 @@ package Ecom.Controller;
 
 import Ecom.DTO.AuthResponse;
 import Ecom.DTO.LoginRequest;
+import Ecom.DTO.RefreshRotation;
 import Ecom.DTO.RefreshTokenRequest;
+import Ecom.DTO.TokenIntrospection;
 import Ecom.Model.User;
 import Ecom.Entity.UserPermission;
+import Ecom.Exception.LoginThrottledException;
 import Ecom.Repository.UserPermissionRepository;
 import Ecom.Repository.UserRepository;
 import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.SecurityConfig.PermissionSet;
+import Ecom.SecurityConfig.UserAccess;
+import Ecom.Service.PermissionService;
+import Ecom.Service.RefreshTokenService;
+import Ecom.Service.TokenIntrospectionService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -38,11 +50,17 @@ import java.util.*;
 @CrossOrigin(origins = {"http://localhost:3000", "https://eccomers96.netlify.app"})
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     private AuthenticationManager authenticationManager;
     private JwtTokenProvider tokenProvider;
     private UserRepository userRepository;
     private UserPermissionRepository permissionRepository;
     private PasswordEncoder passwordEncoder;
+    private PermissionService permissionService;
+    private RefreshTokenService refreshTokenService;
+    private TokenIntrospectionService tokenIntrospectionService;
+    private UserAccess userAccess;
 
     /**
      * LOGIN ENDPOINT
@@ -88,12 +106,13 @@ public class AuthController {
             User user = userRepository.findByEmail(loginRequest.getEmail())
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-            // Generate tokens
-            String accessToken = tokenProvider.generateAccessToken(authentication);
-            String refreshToken = tokenProvider.generateRefreshToken(loginRequest.getEmail());
+            // Generate tokens; the access token is bound to its refresh token (sid)
+            String refreshToken = refreshTokenService.issue(loginRequest.getEmail());
+            String accessToken = tokenProvider.generateAccessToken(authentication,
+                    tokenProvider.verify(refreshToken).getJwtId());
 
-            // Get user permissions for metadata
-            List<UserPermission> permissions = permissionRepository.findByUserIdAndActiveTrue((long) user.getUserId());
+            // Warm the permission cache for the session
+            permissionService.getPermissions((long) user.getUserId());
 
             AuthResponse response = AuthResponse.builder()
                     .accessToken(accessToken)
@@ -110,8 +129,12 @@ public class AuthController {
 
             return ResponseEntity.ok(response);
 
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(LoginThrottledException.RETRY_AFTER_SECONDS))
+                    .body(Collections.singletonMap("error", e.getMessage()));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.debug("Login failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Collections.singletonMap("error", "Invalid email or password: " + e.getMessage()));
         }
@@ -129,36 +152,38 @@ public class AuthController {
      * Response:
      * {
      *   "accessToken": "new JWT token",
-     *   "refreshToken": "same refresh token",
+     *   "refreshToken": "new refresh token (the one sent is now used up)",
      *   "expiresIn": 900000
      * }
+     *
+     * Each refresh token works once. Sending a used or revoked one again
+     * revokes every refresh token of that user.
      */
     @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
         try {
-            // Validate refresh token
-            if (!tokenProvider.validateToken(request.getRefreshToken())) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Collections.singletonMap("error", "Invalid or expired refresh token"));
-            }
+            // Validate and rotate refresh token
+            RefreshRotation rotation = refreshTokenService.rotate(request.getRefreshToken());
 
-            String username = tokenProvider.getUsernameFromJWT(request.getRefreshToken());
+            String username = rotation.getUsername();
             User user = userRepository.findByEmail(username)
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-            // Create new authentication for token generation
+            // Create new authentication for token generation, with the user's current role
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    username, null, Collections.emptyList()
+                    username, null, List.of(new SimpleGrantedAuthority(String.valueOf(user.getRole())))
             );
 
-            // Generate new access token
-            String newAccessToken = tokenProvider.generateAccessToken(authentication);
+            // Generate new access token, bound to the replacement refresh token
+            String newAccessToken = tokenProvider.generateAccessToken(authentication,
+                    tokenProvider.verify(rotation.getRefreshToken()).getJwtId());
 
             AuthResponse response = AuthResponse.builder()
                     .accessToken(newAccessToken)
-                    .refreshToken(request.getRefreshToken())
+                    .refreshToken(rotation.getRefreshToken())
                     .tokenType("Bearer")
                     .expiresIn(900000L)
+                    .refreshExpiresIn(604800000L)
                     .userId((long) user.getUserId())
                     .username(username)
                     .message("Token refreshed successfully")
@@ -191,16 +216,16 @@ public class AuthController {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<UserPermission> permissions = permissionRepository.findByUserIdAndActiveTrue((long) user.getUserId());
+        PermissionSet permissions = permissionService.getPermissions((long) user.getUserId());
 
         Map<String, Object> response = new HashMap<>();
         response.put("userId", user.getUserId());
         response.put("email", user.getEmail());
         response.put("role", user.getRole());
-        response.put("permissions", permissions.stream()
+        response.put("permissions", permissions.entries().stream()
                 .map(p -> new HashMap<String, Object>() {{
-                    put("resource", p.getResourceName());
-                    put("permission", p.getPermissionType());
+                    put("resource", p.getKey());
+                    put("permission", p.getValue());
                 }})
                 .toList());
 
@@ -229,23 +254,12 @@ public class AuthController {
                         .body(Collections.singletonMap("error", "Only ADMIN can grant permissions"));
             }
 
-            Integer userId = Integer.valueOf(request.get("userId").toString());
+            Long userId = Long.valueOf(request.get("userId").toString());
             String resourceName = request.get("resourceName").toString();
             String permissionType = request.get("permissionType").toString();
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            UserPermission permission = UserPermission.builder()
-                    .user(user)
-                    .resourceName(resourceName)
-                    .permissionType(UserPermission.PermissionType.valueOf(permissionType))
-                    .active(true)
-                    .notes((String) request.get("notes"))
-                    .createdAt(System.currentTimeMillis())
-                    .build();
-
-            UserPermission savedPermission = permissionRepository.save(permission);
+            UserPermission savedPermission = permissionService.grantPermission(userId, resourceName,
+                    UserPermission.PermissionType.valueOf(permissionType), (String) request.get("notes"));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -261,11 +275,15 @@ public class AuthController {
     }
 
     /**
-     * GET USER PERMISSIONS
+     * GET USER PERMISSIONS (ADMIN OR SELF)
      * GET /ecom/auth/permissions/{userId}
      */
     @GetMapping("/permissions/{userId}")
     public ResponseEntity<?> getUserPermissions(@PathVariable Long userId) {
+        if (!userAccess.isAdminOrSelf(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Collections.singletonMap("error", "Only ADMIN or the user themselves can view permissions"));
+        }
         try {
             List<UserPermission> permissions = permissionRepository.findByUserIdAndActiveTrue(userId);
 
@@ -288,6 +306,29 @@ public class AuthController {
         }
     }
 
+    /**
+     * CHECK PERMISSION (ADMIN OR SELF)
+     * GET /ecom/auth/permissions/{userId}/check?resource=PRODUCTS&permission=READ
+     *
+     * Answered from the cached permission bitset, no permission query once the user is cached
+     * Response: { "userId": 2, "resource": "PRODUCTS", "permission": "READ", "allowed": true }
+     */
+    @GetMapping("/permissions/{userId}/check")
+    public ResponseEntity<?> checkPermission(@PathVariable Long userId,
+                                             @RequestParam String resource,
+                                             @RequestParam UserPermission.PermissionType permission) {
+        if (!userAccess.isAdminOrSelf(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Collections.singletonMap("error", "Only ADMIN or the user themselves can check permissions"));
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("userId", userId);
+        response.put("resource", resource);
+        response.put("permission", permission);
+        response.put("allowed", permissionService.hasPermission(userId, resource, permission));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * REVOKE PERMISSION (ADMIN ONLY)
      * DELETE /ecom/auth/permissions/{permissionId}
@@ -302,12 +343,7 @@ public class AuthController {
                         .body(Collections.singletonMap("error", "Only ADMIN can revoke permissions"));
             }
 
-            UserPermission permission = permissionRepository.findById(permissionId)
-                    .orElseThrow(() -> new RuntimeException("Permission not found"));
-
-            permission.setActive(false);
-            permission.setUpdatedAt(System.currentTimeMillis());
-            permissionRepository.save(permission);
+            permissionService.revokePermission(permissionId);
 
             return ResponseEntity.ok(Collections.singletonMap("message", "Permission revoked successfully"));
 
@@ -362,12 +398,44 @@ public class AuthController {
         }
     }
 
+    /**
+     * TOKEN INTROSPECTION
+     * POST /ecom/auth/introspect  (form or query parameters, caller must be authenticated)
+     *
+     * token: the token to describe
+     * scope: optional, space or comma separated scopes the caller wants checked
+     *
+     * Response (active token):
+     * {
+     *   "active": true,
+     *   "sub": "user@example.com",
+     *   "tokenType": "MIDDLEWARE",
+     *   "scopes": ["READ_PRODUCTS", "READ_ORDERS"],
+     *   "exp": 1735689600,
+     *   "allowed": true
+     * }
+     * Invalid, expired or revoked token: { "active": false }
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<TokenIntrospection> introspect(@RequestParam String token,
+                                                         @RequestParam(required = false) String scope) {
+        List<String> requiredScopes = scope == null || scope.isBlank()
+                ? List.of()
+                : Arrays.stream(scope.trim().split("[\\s,]+")).toList();
+        return ResponseEntity.ok(tokenIntrospectionService.introspect(token, requiredScopes));
+    }
+
     /**
      * LOGOUT ENDPOINT
      * POST /ecom/auth/logout
+     *
+     * Optional body { "refreshToken": "..." } revokes that refresh token
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
+    public ResponseEntity<?> logout(@RequestBody(required = false) RefreshTokenRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
         SecurityContextHolder.clearContext();
         return ResponseEntity.ok(Collections.singletonMap("message", "Logged out successfully"));
     }
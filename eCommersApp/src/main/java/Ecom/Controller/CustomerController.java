@@ -1,8 +1,13 @@
 package Ecom.Controller;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,11 +17,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import Ecom.DTO.CustomerSearchCriteria;
+import Ecom.DTO.CustomerSearchResponse;
+import Ecom.DTO.CustomerSummaryDTO;
 import Ecom.Model.User;
 import Ecom.ModelDTO.CustomerDTO;
 import Ecom.ModelDTO.UserDTO;
 import Ecom.Service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -24,6 +34,8 @@ import jakarta.validation.Valid;
 @RequestMapping("/ecom/customers")
 public class CustomerController {
 
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
     private final UserService userService;
 
     private final PasswordEncoder passwordEncoder;
@@ -45,7 +57,6 @@ public class CustomerController {
 
     @DeleteMapping("/deactivate/{customerid}")
     public ResponseEntity<String> deactivateUser(@PathVariable("customerid") Integer customerId) {
-        System.out.println("inside the deactivate method");
         String message = userService.deactivateUser(customerId);
         return ResponseEntity.ok(message);
     }
@@ -56,10 +67,101 @@ public class CustomerController {
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * Admin customer listing: one keyset page, optionally filtered by email / name prefix
+     */
     @GetMapping("/get-all-customer")
-    public ResponseEntity<List<User>> getAllUserDetails() {
-        List<User> users = userService.getAllUserDetails();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CustomerSearchResponse> getAllUserDetails(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .email(email)
+                .name(name)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(userService.searchCustomers(criteria));
+    }
+
+    /**
+     * Same customers as CSV, written batch by batch straight to the response
+     */
+    @GetMapping("/get-all-customer/export")
+    public void exportUserDetails(@RequestParam(required = false) String email,
+                                  @RequestParam(required = false) String name,
+                                  HttpServletResponse response) throws IOException {
+        CustomerSearchCriteria criteria = CustomerSearchCriteria.builder()
+                .email(email)
+                .name(name)
+                .build();
+
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers.csv\"");
+        PrintWriter writer = response.getWriter();
+        writer.println("userId,email,firstName,lastName,phoneNumber,registerTime,userAccountStatus,"
+                + "flatNo,street,city,state,zipCode");
+        userService.exportCustomers(criteria, batch -> writeCsv(writer, batch));
+        writer.flush();
+    }
+
+    private static void writeCsv(PrintWriter writer, List<CustomerSummaryDTO> batch) {
+        for (CustomerSummaryDTO customer : batch) {
+            writer.print(customer.getUserId());
+            writer.print(',');
+            writer.print(csv(customer.getEmail()));
+            writer.print(',');
+            writer.print(csv(customer.getFirstName()));
+            writer.print(',');
+            writer.print(csv(customer.getLastName()));
+            writer.print(',');
+            writer.print(csv(customer.getPhoneNumber()));
+            writer.print(',');
+            writer.print(csv(customer.getRegisterTime()));
+            writer.print(',');
+            writer.print(csv(customer.getUserAccountStatus()));
+            if (customer.getLatestAddress() != null) {
+                writer.print(',');
+                writer.print(csv(customer.getLatestAddress().getFlatNo()));
+                writer.print(',');
+                writer.print(csv(customer.getLatestAddress().getStreet()));
+                writer.print(',');
+                writer.print(csv(customer.getLatestAddress().getCity()));
+                writer.print(',');
+                writer.print(csv(customer.getLatestAddress().getState()));
+                writer.print(',');
+                writer.print(csv(customer.getLatestAddress().getZipCode()));
+            } else {
+                writer.print(",,,,,");
+            }
+            writer.println();
+        }
+        // push the batch to the client; stop the export if it went away
+        writer.flush();
+        if (writer.checkError()) {
+            throw new UncheckedIOException(new IOException("Client aborted customer export"));
+        }
+    }
+
+    /**
+     * RFC 4180 field: quoted when it holds a separator, quote or line break. A value a
+     * spreadsheet would read as a formula (leading =, +, -, @, tab or carriage return) is
+     * prefixed with ' so it opens as text.
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
     }
 
 }
@@ -2,6 +2,7 @@ package Ecom.Controller;
 
 import Ecom.Exception.UserException;
 import Ecom.ModelDTO.UserSignInDetail;
+import Ecom.SecurityConfig.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,8 +32,8 @@ public class LoginController {
 			signinSuceesData.setLastName(customer.getLastName());
 			signinSuceesData.setSigninStatus("Success");
 			
-			// Lấy token từ request attribute (được set bởi JwtTokenGeneratorFilter)
-			String token = (String) request.getAttribute("jwtToken");
+			// Lấy token từ request attribute (được set bởi JwtAuthenticationFilter)
+			String token = (String) request.getAttribute(JwtAuthenticationFilter.ISSUED_TOKEN_ATTRIBUTE);
 			signinSuceesData.setToken(token);
 
 			return new ResponseEntity<>(signinSuceesData, HttpStatus.OK);
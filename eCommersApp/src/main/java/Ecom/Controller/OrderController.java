@@ -1,8 +1,17 @@
 package Ecom.Controller;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
+import Ecom.DTO.BulkStatusTransitionRequest;
+import Ecom.DTO.BulkStatusTransitionResponse;
+import Ecom.DTO.CheckoutRequest;
+import Ecom.DTO.CheckoutResponse;
+import Ecom.DTO.OrderSearchCriteria;
+import Ecom.DTO.OrderSearchResponse;
+import Ecom.Enum.OrderStatus;
 import Ecom.ModelDTO.OrdersDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -12,11 +21,18 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import Ecom.Model.Orders;
+import Ecom.SecurityConfig.UserAccess;
+import Ecom.Service.CheckoutService;
+import Ecom.Service.OrderStatusService;
 import Ecom.Service.OrdersService;
+import jakarta.validation.Valid;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +41,12 @@ public class OrderController {
 
     private final OrdersService ordersService;
 
+    private final OrderStatusService orderStatusService;
+
+    private final CheckoutService checkoutService;
+
+    private final UserAccess userAccess;
+
 
     @PostMapping("/placed/{userid}")
     public ResponseEntity<?> addOrderToCart(@PathVariable("userid") Integer userid) {
@@ -32,24 +54,50 @@ public class OrderController {
         return ResponseEntity.ok(placeOrder);
     }
 
+    /**
+     * Takes payment and books shipping for the cart of {userid}: only that user or ADMIN
+     */
+    @PostMapping("/checkout/{userid}")
+    public ResponseEntity<?> checkout(@PathVariable("userid") Integer userid,
+                                      @Valid @RequestBody CheckoutRequest request) {
+        if (!userAccess.isAdminOrSelf(userid)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Collections.singletonMap("error", "Only ADMIN or the user themselves can check out this cart"));
+        }
+        CheckoutResponse response = checkoutService.checkout(userid, request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * A live or an archived order
+     */
     @GetMapping("/{orderId}")
     public ResponseEntity<Orders> getOrdersDetails(@PathVariable("orderId") Integer orderId) {
         Orders order = ordersService.getOrdersDetails(orderId);
         return new ResponseEntity<>(order, HttpStatus.OK);
     }
 
+    /**
+     * The user's live and archived orders
+     */
     @GetMapping("/orders/{userId}")
     public ResponseEntity<List<Orders>> getAllUserOrder(@PathVariable Integer userId) {
         List<Orders> orders = ordersService.getAllUserOrder(userId);
         return new ResponseEntity<>(orders, HttpStatus.OK);
     }
 
+    /**
+     * Live orders only: orders past the archive horizon are not listed here
+     */
     @GetMapping("/all")
     public ResponseEntity<List<Orders>> viewAllOrders() {
         List<Orders> orders = ordersService.viewAllOrders();
         return new ResponseEntity<>(orders, HttpStatus.OK);
     }
 
+    /**
+     * Live orders placed on or after {date}; archived orders are not listed
+     */
     @GetMapping("/date/{date}")
     public ResponseEntity<List<Orders>> viewAllOrderByDate(
             @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") Date date) {
@@ -57,6 +105,44 @@ public class OrderController {
         return new ResponseEntity<>(orders, HttpStatus.OK);
     }
 
+    /**
+     * Searches live orders only; an archived order is found by id or in its user's order list
+     */
+    @GetMapping("/admin/search")
+    public ResponseEntity<OrderSearchResponse> searchOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer userId,
+            @RequestParam(required = false) Double minAmount,
+            @RequestParam(required = false) Double maxAmount,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        OrderSearchCriteria criteria = OrderSearchCriteria.builder()
+                .status(status)
+                .from(from)
+                .to(to)
+                .userId(userId)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .cursor(cursor)
+                .size(size)
+                .build();
+        return new ResponseEntity<>(ordersService.searchOrders(criteria), HttpStatus.OK);
+    }
+
+    @PutMapping("/admin/{orderId}/status")
+    public ResponseEntity<Orders> updateOrderStatus(@PathVariable Integer orderId, @RequestBody OrdersDTO orderDTO) {
+        Orders order = ordersService.updateOrders(orderId, orderDTO);
+        return new ResponseEntity<>(order, HttpStatus.OK);
+    }
+
+    @PutMapping("/admin/status/bulk")
+    public ResponseEntity<BulkStatusTransitionResponse> bulkUpdateOrderStatus(
+            @Valid @RequestBody BulkStatusTransitionRequest request) {
+        return new ResponseEntity<>(orderStatusService.bulkTransition(request), HttpStatus.OK);
+    }
+
     @DeleteMapping("/users/{userId}/{orderId}")
     public ResponseEntity<String> deleteOrders(@PathVariable Integer userId, @PathVariable Integer orderId) {
         ordersService.deleteOrders(userId, orderId);
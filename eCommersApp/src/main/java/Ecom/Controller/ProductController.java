@@ -55,7 +55,7 @@ public class ProductController {
        @RequestParam(required = false, defaultValue = "asc") String sort,
        @RequestParam(required = false, defaultValue = "price") String sortBy
     ) {
-        // Lưu ý: Access Token sẽ được "JwtTokenValidatorFilter" bắt và xử lý tự động.
+        // Lưu ý: Access Token sẽ được "JwtAuthenticationFilter" bắt và xử lý tự động.
         // Controller này chỉ cần lo việc lọc sản phẩm (keyword, sort...).
         List<Product> products = productService.getAllProduct(keyword, sort, sortBy);
         return new ResponseEntity<>(products, HttpStatus.OK);
@@ -26,7 +26,7 @@ public class ReviewController {
     private final ReviewService reviewService;
     @PostMapping("/{productId}/{userId}")
     public ResponseEntity<Review> addReviewToProduct(@PathVariable Integer productId, @PathVariable Integer userId,
-                                                    @RequestBody Review review) {
+                                                    @Valid @RequestBody Review review) {
         Review addedReview = reviewService.addReviewToProduct(productId, userId, review);
         return ResponseEntity.ok(addedReview);
     }
@@ -0,0 +1,31 @@
+package Ecom.DTO;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Address row of the admin customer listing, without the owning User entity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressSummaryDTO {
+
+    @JsonIgnore
+    private Integer userId;
+
+    private Integer addressId;
+
+    private String flatNo;
+
+    private String street;
+
+    private String city;
+
+    private String state;
+
+    private String zipCode;
+}
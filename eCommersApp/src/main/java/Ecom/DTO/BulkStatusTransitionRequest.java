@@ -0,0 +1,33 @@
+package Ecom.DTO;
+
+import java.util.List;
+
+import Ecom.Enum.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Order Status Transition Request
+ * Moves every listed order currently in {@code from} to {@code to}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusTransitionRequest {
+
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = 10000, message = "At most 10000 orders per request")
+    private List<Integer> orderIds;
+
+    @NotNull(message = "Source status is required")
+    private OrderStatus from;
+
+    @NotNull(message = "Target status is required")
+    private OrderStatus to;
+}
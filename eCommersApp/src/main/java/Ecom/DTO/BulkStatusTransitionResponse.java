@@ -0,0 +1,32 @@
+package Ecom.DTO;
+
+import java.util.List;
+import java.util.Map;
+
+import Ecom.Enum.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Order Status Transition Response
+ * Lists the orders that moved and the reason every other id was rejected
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusTransitionResponse {
+
+    private OrderStatus from;
+
+    private OrderStatus to;
+
+    private List<Integer> transitioned;
+
+    /**
+     * Rejected order id -> reason
+     */
+    private Map<Integer, String> rejected;
+}
@@ -0,0 +1,42 @@
+package Ecom.DTO;
+
+import Ecom.Enum.PaymentMethod;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Checkout Request DTO
+ * Everything needed to turn the user's cart into a paid, shippable order in one call
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutRequest {
+
+    @NotNull(message = "Shipper is required")
+    private Integer shipperId;
+
+    /**
+     * Defaults to UPI, matching /ecom/order-payments/makePayment
+     */
+    private PaymentMethod paymentMethod;
+
+    @NotBlank(message = "Address Is Mandatory")
+    private String address;
+
+    @NotBlank(message = "City Is Mandatory")
+    private String city;
+
+    @NotBlank(message = "State Is Mandatory")
+    private String state;
+
+    private String country;
+
+    @NotBlank(message = "Postal Code Is Mandatory")
+    private String postalCode;
+}
@@ -0,0 +1,34 @@
+package Ecom.DTO;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.OrderStatus;
+import Ecom.Enum.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Checkout Response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutResponse {
+
+    private Integer orderId;
+
+    private OrderStatus status;
+
+    private LocalDateTime orderDate;
+
+    private double totalAmount;
+
+    private Long paymentId;
+
+    private PaymentStatus paymentStatus;
+
+    private Long shippingId;
+}
@@ -0,0 +1,34 @@
+package Ecom.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Admin Customer Search Criteria
+ * Both prefixes are optional and case insensitive; only the ones provided become predicates
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerSearchCriteria {
+
+    /**
+     * Email prefix, e.g. "john" or "john.doe@"
+     */
+    private String email;
+
+    /**
+     * Prefix of the first or the last name
+     */
+    private String name;
+
+    /**
+     * Keyset cursor: the last userId of the previous page (results are ordered by id)
+     */
+    private Integer cursor;
+
+    private int size;
+}
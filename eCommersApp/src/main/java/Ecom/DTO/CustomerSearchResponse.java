@@ -0,0 +1,28 @@
+package Ecom.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Admin Customer Listing Response
+ * One keyset page of customers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerSearchResponse {
+
+    private List<CustomerSummaryDTO> customers;
+
+    /**
+     * Cursor for the next page, null when this is the last page
+     */
+    private Integer nextCursor;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,43 @@
+package Ecom.DTO;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.UserAccountStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat customer row returned by the admin listing
+ * Built by a constructor projection; the latest address is attached with one batched query per page
+ */
+@Data
+@NoArgsConstructor
+public class CustomerSummaryDTO {
+
+    private Integer userId;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String phoneNumber;
+
+    private LocalDateTime registerTime;
+
+    private UserAccountStatus userAccountStatus;
+
+    private AddressSummaryDTO latestAddress;
+
+    public CustomerSummaryDTO(Integer userId, String email, String firstName, String lastName, String phoneNumber,
+            LocalDateTime registerTime, UserAccountStatus userAccountStatus) {
+        this.userId = userId;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phoneNumber = phoneNumber;
+        this.registerTime = registerTime;
+        this.userAccountStatus = userAccountStatus;
+    }
+}
@@ -0,0 +1,51 @@
+package Ecom.DTO;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Admin Order Search Criteria
+ * Every filter is optional; only the ones provided become predicates
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSearchCriteria {
+
+    private OrderStatus status;
+
+    /**
+     * Inclusive lower bound on order date
+     */
+    private LocalDateTime from;
+
+    /**
+     * Exclusive upper bound on order date
+     */
+    private LocalDateTime to;
+
+    private Integer userId;
+
+    private Double minAmount;
+
+    private Double maxAmount;
+
+    /**
+     * Keyset cursor: the last orderId of the previous page (results are ordered by order date,
+     * then id, newest first)
+     */
+    private Integer cursor;
+
+    /**
+     * Order date of the cursor order, resolved by the service before the page is read
+     */
+    private LocalDateTime cursorDate;
+
+    private int size;
+}
@@ -0,0 +1,38 @@
+package Ecom.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Admin Order Search Response
+ * One keyset page plus an optional count estimate
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSearchResponse {
+
+    private List<OrderSummaryDTO> orders;
+
+    /**
+     * Cursor for the next page, null when this is the last page
+     */
+    private Integer nextCursor;
+
+    private boolean hasMore;
+
+    /**
+     * Number of matching orders, computed on the first page only and capped
+     */
+    private Long countEstimate;
+
+    /**
+     * False when the count hit the cap and the real total is larger
+     */
+    private Boolean countExact;
+}
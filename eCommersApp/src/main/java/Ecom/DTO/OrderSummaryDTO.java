@@ -0,0 +1,30 @@
+package Ecom.DTO;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat order row returned by the admin search
+ * Built by a constructor projection, so no entity graph is loaded
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDTO {
+
+    private Integer orderId;
+
+    private OrderStatus status;
+
+    private LocalDateTime orderDate;
+
+    private double totalAmount;
+
+    private Integer userId;
+
+    private String userEmail;
+}
@@ -0,0 +1,20 @@
+package Ecom.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of rotating a refresh token: whose it was and its replacement
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshRotation {
+
+    private String username;
+
+    private String refreshToken;
+}
@@ -0,0 +1,52 @@
+package Ecom.DTO;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token Introspection Response
+ * Modelled on RFC 7662: an inactive token is answered with {"active": false} only
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+    public static final TokenIntrospection INACTIVE = TokenIntrospection.builder().active(false).build();
+
+    private boolean active;
+
+    /**
+     * Subject (username) the token was issued for
+     */
+    private String sub;
+
+    /**
+     * MIDDLEWARE, REFRESH or ACCESS
+     */
+    private String tokenType;
+
+    private List<String> scopes;
+
+    private List<String> authorities;
+
+    /**
+     * Issued-at and expiry, seconds since the epoch
+     */
+    private Long iat;
+
+    private Long exp;
+
+    /**
+     * Whether the token grants every scope asked for; only present when scopes were asked for
+     */
+    private Boolean allowed;
+}
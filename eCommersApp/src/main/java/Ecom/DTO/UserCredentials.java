@@ -0,0 +1,21 @@
+package Ecom.DTO;
+
+import Ecom.Enum.UserAccountStatus;
+import Ecom.Enum.UserRole;
+import lombok.Value;
+
+/**
+ * Credential projection used for authentication
+ * Only the columns UserDetails needs; immutable because instances are cached
+ */
+@Value
+public class UserCredentials {
+
+    String email;
+
+    String password;
+
+    UserRole role;
+
+    UserAccountStatus userAccountStatus;
+}
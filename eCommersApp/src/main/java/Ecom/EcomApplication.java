@@ -3,6 +3,7 @@ package Ecom;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -18,6 +19,7 @@ import io.swagger.v3.oas.annotations.servers.Server;
  */
 @EntityScan(basePackages = "Ecom")
 @SpringBootApplication
+@EnableScheduling
 @OpenAPIDefinition(info = @Info(title = "REST API", version = "1.1"), security = {
 		@SecurityRequirement(name = "basicAuth"), @SecurityRequirement(name = "bearerToken") }, servers = {
 				@Server(url = "/", description = "Default Server URL") })
@@ -27,7 +29,6 @@ public class EcomApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(EcomApplication.class, args);
-		System.out.println("Application started........................");
 	}
 
 }
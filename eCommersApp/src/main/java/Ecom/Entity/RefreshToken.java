@@ -0,0 +1,59 @@
+package Ecom.Entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Refresh Token Registry Entry
+ * One row per issued refresh token, keyed by the token's jti claim.
+ * A token is usable while it is not revoked and not expired; using it rotates it
+ * (revoked, replacedBy = the new token) so every refresh token works exactly once.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_username", columnList = "username, revoked"),
+    @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * jti claim of the token
+     */
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    @Column(name = "issued_at", nullable = false)
+    private Instant issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Builder.Default
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked = false;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    /**
+     * jti of the token issued when this one was rotated
+     */
+    @Column(name = "replaced_by", length = 36)
+    private String replacedBy;
+}
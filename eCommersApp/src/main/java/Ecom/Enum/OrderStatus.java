@@ -1,5 +1,26 @@
 package Ecom.Enum;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
-	DELIVERED, PENDING, SHIPPED, CANCELED
+	DELIVERED, PENDING, SHIPPED, CANCELED;
+
+	/**
+	 * States this status may move to. DELIVERED and CANCELED are terminal.
+	 */
+	public Set<OrderStatus> nextStates() {
+		switch (this) {
+		case PENDING:
+			return EnumSet.of(SHIPPED, CANCELED);
+		case SHIPPED:
+			return EnumSet.of(DELIVERED, CANCELED);
+		default:
+			return EnumSet.noneOf(OrderStatus.class);
+		}
+	}
+
+	public boolean canTransitionTo(OrderStatus target) {
+		return target != null && nextStates().contains(target);
+	}
 }
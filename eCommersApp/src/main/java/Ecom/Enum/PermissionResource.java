@@ -0,0 +1,25 @@
+package Ecom.Enum;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resources a UserPermission can be granted on (user_permissions.resource_name).
+ * The ordinal is the resource's slot in a PermissionSet, so new resources go at the end.
+ */
+public enum PermissionResource {
+	PRODUCTS, ORDERS, USERS, PAYMENTS, CARTS, REVIEWS, ADDRESSES, SHIPPERS, SHIPPING;
+
+	private static final Map<String, PermissionResource> BY_NAME = Arrays.stream(values())
+			.collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+	/**
+	 * The resource with this exact name; empty for unknown names instead of valueOf's exception
+	 */
+	public static Optional<PermissionResource> fromName(String name) {
+		return name == null ? Optional.empty() : Optional.ofNullable(BY_NAME.get(name));
+	}
+}
@@ -0,0 +1,30 @@
+package Ecom.Event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import Ecom.Enum.OrderStatus;
+import lombok.Getter;
+
+/**
+ * Published after orders move between states, once per single update or per bulk chunk.
+ * Delivered to transactional listeners after commit (see OrderStatusChangedListener).
+ */
+@Getter
+public class OrderStatusChangedEvent {
+
+	private final List<Integer> orderIds;
+
+	private final OrderStatus from;
+
+	private final OrderStatus to;
+
+	private final LocalDateTime occurredAt;
+
+	public OrderStatusChangedEvent(List<Integer> orderIds, OrderStatus from, OrderStatus to) {
+		this.orderIds = List.copyOf(orderIds);
+		this.from = from;
+		this.to = to;
+		this.occurredAt = LocalDateTime.now();
+	}
+}
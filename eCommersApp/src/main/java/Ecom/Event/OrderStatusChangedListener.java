@@ -0,0 +1,33 @@
+package Ecom.Event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Consumes order state changes once the transaction that made them has committed, so a
+ * change that is rolled back is never logged or counted. Counts orders per edge as
+ * ecom.orders.transitions (tags from, to).
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusChangedListener {
+
+	public static final String TRANSITIONS = "ecom.orders.transitions";
+
+	private static final Logger log = LoggerFactory.getLogger(OrderStatusChangedListener.class);
+
+	private final MeterRegistry meterRegistry;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStatusChanged(OrderStatusChangedEvent event) {
+		meterRegistry.counter(TRANSITIONS, "from", event.getFrom().name(), "to", event.getTo().name())
+				.increment(event.getOrderIds().size());
+		log.info("Orders {} moved {} -> {}", event.getOrderIds(), event.getFrom(), event.getTo());
+	}
+}
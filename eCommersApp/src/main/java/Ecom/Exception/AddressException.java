@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class AddressException extends RuntimeException {
+public class AddressException extends DomainException {
 	
 	public AddressException() {
 
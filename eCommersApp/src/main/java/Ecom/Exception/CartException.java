@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class CartException extends RuntimeException {
+public class CartException extends DomainException {
 
 	
 	public CartException(String msg) {
@@ -0,0 +1,28 @@
+package Ecom.Exception;
+
+/**
+ * Base of the application's domain exceptions: expected business outcomes (not found,
+ * invalid state) that GlobalExceptionhandler turns into an error response.
+ *
+ * They are created without a stack trace and without suppressed exceptions; the message
+ * says what went wrong and the trace of a business rule check is never read. Filling it in
+ * dominated the cost of throwing on every miss. Because such an exception carries no state
+ * of its own, a constant-message one may also be shared as a static instance. Wrapped
+ * failures keep their cause, whose own stack trace is still captured.
+ */
+public abstract class DomainException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	protected DomainException() {
+		this(null, null);
+	}
+
+	protected DomainException(String msg) {
+		this(msg, null);
+	}
+
+	protected DomainException(String msg, Throwable cause) {
+		super(msg, cause, false, false);
+	}
+}
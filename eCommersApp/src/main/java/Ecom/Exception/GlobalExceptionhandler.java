@@ -2,6 +2,9 @@ package Ecom.Exception;
 
 import java.time.LocalDateTime;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,6 +16,8 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 @ControllerAdvice
 public class GlobalExceptionhandler {
 
+	private static final Logger log = LoggerFactory.getLogger(GlobalExceptionhandler.class);
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<MyErrorClass> getException(MethodArgumentNotValidException e, WebRequest req) {
 
@@ -42,7 +47,6 @@ public class GlobalExceptionhandler {
 
 		MyErrorClass e1 = new MyErrorClass();
 		e1.setMessage(e.getMessage());
-		System.out.println("inside the global orderexception");
 		e1.setLocalDateTimes(LocalDateTime.now());
 		e1.setDesc(req.getDescription(false));
 
@@ -145,9 +149,24 @@ public class GlobalExceptionhandler {
 
 	}
 
+	@ExceptionHandler(LoginThrottledException.class)
+	public ResponseEntity<MyErrorClass> getException(LoginThrottledException e, WebRequest req) {
+
+		MyErrorClass e1 = new MyErrorClass();
+		e1.setMessage(e.getMessage());
+		e1.setLocalDateTimes(LocalDateTime.now());
+		e1.setDesc(req.getDescription(false));
+
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(LoginThrottledException.RETRY_AFTER_SECONDS))
+				.body(e1);
+
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<MyErrorClass> getException(Exception e, WebRequest req) {
 
+		log.error("Unhandled exception on {}", req.getDescription(false), e);
 		MyErrorClass e1 = new MyErrorClass();
 		e1.setMessage(e.getMessage());
 		e1.setLocalDateTimes(LocalDateTime.now());
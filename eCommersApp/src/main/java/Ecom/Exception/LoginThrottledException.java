@@ -0,0 +1,20 @@
+package Ecom.Exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Password hashing pool is saturated; the caller should retry later (HTTP 429).
+ * An AuthenticationException so it passes through ProviderManager and the
+ * HTTP Basic filter unchanged.
+ */
+public class LoginThrottledException extends AuthenticationServiceException {
+
+	/**
+	 * Seconds sent in the Retry-After header
+	 */
+	public static final int RETRY_AFTER_SECONDS = 1;
+
+	public LoginThrottledException(String msg) {
+		super(msg);
+	}
+}
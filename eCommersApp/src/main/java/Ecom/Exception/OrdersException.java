@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class OrdersException extends RuntimeException{
+public class OrdersException extends DomainException {
 	
 	public OrdersException() {
 		
@@ -8,6 +8,9 @@ public class OrdersException extends RuntimeException{
 
 	public OrdersException(String msg) {
 		super(msg);
-		System.out.println("inside the orderexception");
+	}
+
+	public OrdersException(String msg, Throwable cause) {
+		super(msg, cause);
 	}
 }
@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class PaymentException extends RuntimeException {
+public class PaymentException extends DomainException {
 	
 	public PaymentException() {
 		
@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class ProductException extends RuntimeException {
+public class ProductException extends DomainException {
 
 	public ProductException() {
 	}
@@ -0,0 +1,11 @@
+package Ecom.Exception;
+
+public class RefreshTokenException extends DomainException {
+
+	public RefreshTokenException() {
+	}
+
+	public RefreshTokenException(String msg) {
+		super(msg);
+	}
+}
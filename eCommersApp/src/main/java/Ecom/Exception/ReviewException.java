@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class ReviewException extends RuntimeException {
+public class ReviewException extends DomainException {
 	public ReviewException() {
 		
 	}
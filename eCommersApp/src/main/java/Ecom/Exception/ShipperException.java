@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class ShipperException extends RuntimeException {
+public class ShipperException extends DomainException {
 
 	public ShipperException() {
 
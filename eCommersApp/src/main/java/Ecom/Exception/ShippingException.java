@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class ShippingException extends RuntimeException{
+public class ShippingException extends DomainException {
 	
 	public ShippingException(String msg) {
 		super(msg);
@@ -1,6 +1,6 @@
 package Ecom.Exception;
 
-public class UserException  extends RuntimeException{
+public class UserException  extends DomainException {
 	
 	public UserException() {
 		// TODO Auto-generated constructor stub
@@ -2,11 +2,17 @@ package Ecom.Model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +23,10 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "Address")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
+@Table(name = "Address", indexes = {
+		@Index(name = "idx_address_user", columnList = "userid") })
 public class Address {
 
 	@Id
@@ -47,7 +56,7 @@ public class Address {
 	@NotBlank(message = "State Name Mandatory")
 	private String state;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JsonIgnore
 	@JoinColumn(name = "userid")
 	private User user;
@@ -0,0 +1,44 @@
+package Ecom.Model;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Cold copy of an Orders row moved out by the archival job.
+ * Keeps the original order id so lookups can fall back here transparently.
+ */
+@Data
+@Entity
+@Table(name = "OrdersArchive", indexes = {
+        @Index(name = "idx_orders_archive_user", columnList = "user_id"),
+        @Index(name = "idx_orders_archive_date", columnList = "order_date") })
+public class ArchivedOrder {
+
+    @Id
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "order_date")
+    private LocalDateTime orderDate;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    private double totalAmount;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+}
@@ -0,0 +1,38 @@
+package Ecom.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "OrderItemArchive", indexes = {
+        @Index(name = "idx_order_item_archive_order", columnList = "order_id") })
+public class ArchivedOrderItem {
+
+    @Id
+    @Column(name = "orderItem_Id")
+    private Integer orderItemId;
+
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "product_id")
+    private Integer productId;
+
+    @Column(name = "quantity")
+    private Integer quantity;
+
+    @Column(name = "product_name")
+    private String productName;
+
+    @Column(name = "unit_price")
+    private Double unitPrice;
+
+    @Column(name = "line_total")
+    private Double lineTotal;
+
+}
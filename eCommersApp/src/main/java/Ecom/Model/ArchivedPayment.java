@@ -0,0 +1,44 @@
+package Ecom.Model;
+
+import java.time.LocalDateTime;
+
+import Ecom.Enum.PaymentMethod;
+import Ecom.Enum.PaymentStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "PaymentsArchive", indexes = {
+        @Index(name = "idx_payments_archive_order", columnList = "order_id") })
+public class ArchivedPayment {
+
+    @Id
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "payment_date")
+    private LocalDateTime paymentDate;
+
+    @Column(name = "payment_amount")
+    private double paymentAmount;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus paymentStatus;
+
+}
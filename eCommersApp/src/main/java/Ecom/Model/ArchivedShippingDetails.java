@@ -0,0 +1,41 @@
+package Ecom.Model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "ShippingArchive", indexes = {
+        @Index(name = "idx_shipping_archive_order", columnList = "order_id") })
+public class ArchivedShippingDetails {
+
+    @Id
+    @Column(name = "shipping_id")
+    private Long shippingId;
+
+    @Column(name = "order_id")
+    private Integer orderId;
+
+    @Column(name = "shipper_id")
+    private Integer shipperId;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "city")
+    private String city;
+
+    @Column(name = "state")
+    private String state;
+
+    @Column(name = "country")
+    private String country;
+
+    @Column(name = "postal_code")
+    private String postalCode;
+
+}
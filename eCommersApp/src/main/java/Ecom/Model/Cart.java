@@ -8,10 +8,14 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -19,6 +23,8 @@ import lombok.Data;
 
 @Data
 @Entity
+@NamedEntityGraph(name = "Cart.items", attributeNodes = @NamedAttributeNode(value = "cartItems", subgraph = "item"),
+		subgraphs = @NamedSubgraph(name = "item", attributeNodes = @NamedAttributeNode("product")))
 @Table(name = "Cart")
 public class Cart {
 	
@@ -30,7 +36,7 @@ public class Cart {
     Double totalAmount;
     
     @JsonIgnore
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
     
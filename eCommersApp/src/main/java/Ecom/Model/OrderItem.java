@@ -1,7 +1,10 @@
 package Ecom.Model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.ToString;
 
 @Data
 @Entity
@@ -23,12 +27,27 @@ public class OrderItem {
     @Column(name = "order_id")
     private Integer orderId;
 
-    @ManyToOne
+    @JsonIgnore
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
 
+    @Column(name = "product_id", insertable = false, updatable = false)
+    private Integer productId;
+
     @Column(name = "quantity")
     private Integer quantity;
 
+    // Snapshot of the product taken when the order is placed, so order
+    // history never depends on (or joins) the live Products row.
+    @Column(name = "product_name")
+    private String productName;
+
+    @Column(name = "unit_price")
+    private Double unitPrice;
+
+    @Column(name = "line_total")
+    private Double lineTotal;
 
-}
\ No newline at end of file
+}
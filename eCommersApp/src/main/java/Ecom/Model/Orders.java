@@ -17,8 +17,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -26,7 +30,19 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "Orders")
+// User.cart is an eager inverse one-to-one: joined here instead of one select per customer or payer
+@NamedEntityGraph(name = "Orders.details", attributeNodes = {
+        @NamedAttributeNode("orderItem"),
+        @NamedAttributeNode(value = "user", subgraph = "user"),
+        @NamedAttributeNode(value = "payment", subgraph = "payment"),
+        @NamedAttributeNode("shippingDetails") },
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("cart")),
+                @NamedSubgraph(name = "payment", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")) })
+@Table(name = "Orders", indexes = {
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date, order_id"),
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date, order_id"),
+        @Index(name = "idx_orders_date", columnList = "order_date, order_id") })
 public class Orders {
 
     @Id
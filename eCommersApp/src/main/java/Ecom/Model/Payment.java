@@ -45,7 +45,7 @@ public class Payment {
     private PaymentStatus paymentStatus;
 
     @JsonIgnore
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Orders order;
     
@@ -5,6 +5,11 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +18,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
@@ -22,6 +29,9 @@ import lombok.Data;
 
 @Data
 @Entity
+@NamedEntityGraph(name = "Product.reviews", attributeNodes = @NamedAttributeNode("reviews"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "product")
 @Table(name = "Products")
 public class Product {
 	
@@ -63,6 +73,8 @@ public class Product {
     @OneToMany(mappedBy = "product",cascade = CascadeType.ALL)
     private List<OrderItem> orderItem= new ArrayList<>();;
 
+    // serialized with every Product; batch loaded for the products of a cart
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "product",cascade = CascadeType.ALL)
     private List<Review> reviews= new ArrayList<>();;
     
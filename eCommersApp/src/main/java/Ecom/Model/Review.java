@@ -6,15 +6,17 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
@@ -27,7 +29,8 @@ public class Review {
     private Long reviewId;
 
     @Column(name = "rating")
-    @Size(max = 5,message = "Pls provide Rating  ,can Not Be Null")
+    @Min(value = 1, message = "Rating should be between 1 and 5")
+    @Max(value = 5, message = "Rating should be between 1 and 5")
     private Integer rating;
 
     @Column(name = "comment")
@@ -39,12 +42,12 @@ public class Review {
     private LocalDateTime createdAt;
     
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     @JsonIgnore
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
 }
@@ -1,17 +1,34 @@
 package Ecom.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import Ecom.DTO.AddressSummaryDTO;
 import Ecom.Model.Address;
+import jakarta.persistence.QueryHint;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
+	 /**
+	  * Address book of one user, served from the query cache until an Address row changes
+	  */
 	 @Query("SELECT a FROM Address a  WHERE a.user.userId = :userId")
+	 @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	 List<Address> getUserAddressList(@Param("userId") Integer userId);
 
+	 /**
+	  * Most recently added address of each given user, without loading the users
+	  */
+	 @Query("SELECT new Ecom.DTO.AddressSummaryDTO(a.user.userId, a.addressID, a.flatNo, a.Street, a.city, a.state, a.ZipCode) "
+	 		+ "FROM Address a WHERE a.addressID IN "
+	 		+ "(SELECT max(b.addressID) FROM Address b WHERE b.user.userId IN :userIds GROUP BY b.user.userId)")
+	 List<AddressSummaryDTO> findLatestAddresses(@Param("userIds") Collection<Integer> userIds);
+
 
 }
@@ -0,0 +1,14 @@
+package Ecom.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import Ecom.Model.ArchivedOrderItem;
+
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItem, Integer> {
+
+	List<ArchivedOrderItem> findByOrderIdIn(Collection<Integer> orderIds);
+
+}
@@ -0,0 +1,18 @@
+package Ecom.Repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Ecom.Model.ArchivedOrder;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Integer> {
+
+	@Query("SELECT o FROM ArchivedOrder o WHERE o.userId = :userId")
+	List<ArchivedOrder> getAllOrderByUserId(@Param("userId") Integer userId);
+
+}
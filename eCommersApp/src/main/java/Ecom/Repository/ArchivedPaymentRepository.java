@@ -0,0 +1,14 @@
+package Ecom.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import Ecom.Model.ArchivedPayment;
+
+public interface ArchivedPaymentRepository extends JpaRepository<ArchivedPayment, Long> {
+
+	List<ArchivedPayment> findByOrderIdIn(Collection<Integer> orderIds);
+
+}
@@ -0,0 +1,14 @@
+package Ecom.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import Ecom.Model.ArchivedShippingDetails;
+
+public interface ArchivedShippingRepository extends JpaRepository<ArchivedShippingDetails, Long> {
+
+	List<ArchivedShippingDetails> findByOrderIdIn(Collection<Integer> orderIds);
+
+}
@@ -1,5 +1,8 @@
 package Ecom.Repository;
 
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +11,10 @@ import Ecom.Model.Cart;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 
+	@EntityGraph("Cart.items")
+	Optional<Cart> findWithItemsByCartId(Integer cartId);
+
+	@EntityGraph("Cart.items")
+	Optional<Cart> findWithItemsByUserUserId(Integer userId);
 
 }
@@ -1,25 +1,63 @@
 package Ecom.Repository;
 
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import Ecom.Enum.OrderStatus;
 import Ecom.Model.Orders;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Orders, Integer> {
+public interface OrderRepository extends JpaRepository<Orders, Integer>, OrderSearchRepository {
 
 	@Query("SELECT o FROM Orders o WHERE o.orderId = :orderId AND o.user.userId = :userId")
 	Orders findByIdAndCustomerId(@Param("orderId") Integer orderId, @Param("userId") Integer userId);
 
+	@EntityGraph("Orders.details")
 	@Query("SELECT o FROM Orders o WHERE o.orderDate >= :date")
-	List<Orders> findByOrderDateGreaterThanEqual(Date date);
+	List<Orders> findByOrderDateGreaterThanEqual(@Param("date") LocalDateTime date);
 
+	@Query("SELECT o.orderDate FROM Orders o WHERE o.orderId = :orderId")
+	Optional<LocalDateTime> findOrderDateById(@Param("orderId") Integer orderId);
+
+	/**
+	 * Locks the returned rows until the caller's transaction ends and skips rows another
+	 * transaction holds, so instances archiving at the same time take disjoint batches.
+	 */
+	@Query(value = "SELECT order_id FROM orders WHERE order_date < :cutoff ORDER BY order_id LIMIT :limit "
+			+ "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<Integer> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+	@EntityGraph("Orders.details")
 	@Query("SELECT o FROM Orders o WHERE  o.user.userId = :userId")
 	List<Orders> getAllOrderByUserId(@Param("userId") Integer userId);
 
+	@Override
+	@EntityGraph("Orders.details")
+	List<Orders> findAll();
+
+	@EntityGraph("Orders.details")
+	Optional<Orders> findWithDetailsByOrderId(Integer orderId);
+
+	@EntityGraph("Orders.details")
+	List<Orders> findWithDetailsByOrderIdIn(Collection<Integer> orderIds);
+
+	@Query("SELECT o.orderId, o.status FROM Orders o WHERE o.orderId IN :ids")
+	List<Object[]> findStatusesByIds(@Param("ids") Collection<Integer> ids);
+
+	@Query("SELECT o.orderId FROM Orders o WHERE o.orderId IN :ids AND o.status = :status")
+	List<Integer> findIdsByIdsAndStatus(@Param("ids") Collection<Integer> ids, @Param("status") OrderStatus status);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Orders o SET o.status = :to WHERE o.orderId IN :ids AND o.status = :from")
+	int updateStatus(@Param("ids") Collection<Integer> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
 }
@@ -0,0 +1,22 @@
+package Ecom.Repository;
+
+import java.util.List;
+
+import Ecom.DTO.OrderSearchCriteria;
+import Ecom.DTO.OrderSummaryDTO;
+
+public interface OrderSearchRepository {
+
+	/**
+	 * Returns at most {@code limit} orders matching the criteria, newest order date (then id) first,
+	 * starting after the cursor order ({@code criteria.getCursorDate()}, {@code criteria.getCursor()}).
+	 */
+	List<OrderSummaryDTO> searchOrders(OrderSearchCriteria criteria, int limit);
+
+	/**
+	 * Counts matching orders, stopping at {@code cap + 1} so large result sets stay cheap:
+	 * {@code count(*)} over a derived table limited to {@code cap + 1} rows, so no ids reach the JVM.
+	 */
+	long countOrders(OrderSearchCriteria criteria, int cap);
+
+}
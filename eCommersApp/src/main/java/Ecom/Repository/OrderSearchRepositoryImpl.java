@@ -0,0 +1,98 @@
+package Ecom.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import Ecom.DTO.OrderSearchCriteria;
+import Ecom.DTO.OrderSummaryDTO;
+import Ecom.Model.Orders;
+import Ecom.Model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaSubQuery;
+
+/**
+ * Criteria based admin search. Only supplied filters are turned into predicates
+ * so the planner can pick the matching composite index on Orders. Pages are ordered by
+ * (order_date, order_id) descending, the trailing columns of those indexes (V3), so a page
+ * is an index range scan that stops after {@code limit} rows instead of a sort of every match.
+ */
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<OrderSummaryDTO> searchOrders(OrderSearchCriteria criteria, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<OrderSummaryDTO> query = cb.createQuery(OrderSummaryDTO.class);
+		Root<Orders> order = query.from(Orders.class);
+		Join<Orders, User> user = order.join("user");
+
+		List<Predicate> predicates = buildPredicates(cb, order, criteria);
+		if (criteria.getCursor() != null) {
+			// (orderDate, orderId) < (cursorDate, cursor); the first bound is the index range
+			predicates.add(cb.lessThanOrEqualTo(order.get("orderDate"), criteria.getCursorDate()));
+			predicates.add(cb.or(cb.lessThan(order.get("orderDate"), criteria.getCursorDate()),
+					cb.lessThan(order.get("orderId"), criteria.getCursor())));
+		}
+
+		query.select(cb.construct(OrderSummaryDTO.class, order.get("orderId"), order.get("status"),
+				order.get("orderDate"), order.get("totalAmount"), user.get("userId"), user.get("email")))
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(cb.desc(order.get("orderDate")), cb.desc(order.get("orderId")));
+
+		return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+	}
+
+	@Override
+	public long countOrders(OrderSearchCriteria criteria, int cap) {
+		HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+		JpaCriteriaQuery<Long> query = cb.createQuery(Long.class);
+
+		// select count(*) from (select o.order_id from orders o where ... fetch first cap + 1 rows)
+		JpaSubQuery<Integer> matches = query.subquery(Integer.class);
+		Root<Orders> order = matches.from(Orders.class);
+		Path<Integer> orderId = order.get("orderId");
+		orderId.alias("id"); // a derived table needs named columns
+		matches.select(orderId)
+				.where(buildPredicates(cb, order, criteria).toArray(new Predicate[0]))
+				.fetch(cap + 1);
+
+		query.from(matches);
+		query.select(cb.count(cb.literal(1)));
+
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Orders> order, OrderSearchCriteria criteria) {
+		List<Predicate> predicates = new ArrayList<>();
+		if (criteria.getStatus() != null) {
+			predicates.add(cb.equal(order.get("status"), criteria.getStatus()));
+		}
+		if (criteria.getUserId() != null) {
+			predicates.add(cb.equal(order.get("user").get("userId"), criteria.getUserId()));
+		}
+		if (criteria.getFrom() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(order.get("orderDate"), criteria.getFrom()));
+		}
+		if (criteria.getTo() != null) {
+			predicates.add(cb.lessThan(order.get("orderDate"), criteria.getTo()));
+		}
+		if (criteria.getMinAmount() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(order.get("totalAmount"), criteria.getMinAmount()));
+		}
+		if (criteria.getMaxAmount() != null) {
+			predicates.add(cb.lessThanOrEqualTo(order.get("totalAmount"), criteria.getMaxAmount()));
+		}
+		return predicates;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,13 +15,24 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	// every product response carries its reviews; they are fetched with the product rows
+	@EntityGraph("Product.reviews")
 	@Query("SELECT p FROM Product p  WHERE p.name like %:prduct%")
 	public List<Product> findByName(@Param("prduct") String name);
 	
+	@EntityGraph("Product.reviews")
 	@Query("SELECT p FROM Product p  WHERE p.category like %:cat%")
 	public List<Product> getProductCategoryName(@Param("cat") String category);
 
-    List<Product> findAllByNameContainingIgnoreCase(String keyword, Sort sort);
+	@EntityGraph("Product.reviews")
+	List<Product> findAllByNameContainingIgnoreCase(String keyword, Sort sort);
+
+	@Override
+	@EntityGraph("Product.reviews")
+	List<Product> findAll(Sort sort);
+
+	@EntityGraph("Product.reviews")
+	Optional<Product> findWithReviewsByProductId(Integer productId);
 
 //	@Query(value = "SELECT p FROM Product p JOIN Category c ON p.category_id = c.category_id WHERE c.name = :cat", nativeQuery = true)
 //	public List<Product> getProductCategoryName(@Param("cat") String category);
@@ -0,0 +1,53 @@
+package Ecom.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Ecom.Entity.RefreshToken;
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenId(String tokenId);
+
+	/**
+	 * Marks a live token as used; 0 rows means it was unknown or already revoked
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken t SET t.revoked = true, t.revokedAt = :now, t.replacedBy = :replacedBy "
+			+ "WHERE t.tokenId = :tokenId AND t.revoked = false")
+	int rotate(@Param("tokenId") String tokenId, @Param("replacedBy") String replacedBy, @Param("now") Instant now);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken t SET t.revoked = true, t.revokedAt = :now WHERE t.tokenId = :tokenId AND t.revoked = false")
+	int revoke(@Param("tokenId") String tokenId, @Param("now") Instant now);
+
+	@Query("SELECT t.tokenId FROM RefreshToken t WHERE t.username = :username AND t.revoked = false")
+	List<String> findActiveTokenIds(@Param("username") String username);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken t SET t.revoked = true, t.revokedAt = :now WHERE t.username = :username AND t.revoked = false")
+	int revokeAllForUser(@Param("username") String username, @Param("now") Instant now);
+
+	/**
+	 * The denylist: revoked tokens that would otherwise still be valid
+	 */
+	@Query("SELECT t.tokenId FROM RefreshToken t WHERE t.revoked = true AND t.expiresAt > :now")
+	List<String> findRevokedTokenIds(@Param("now") Instant now);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,23 @@
 package Ecom.Repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import Ecom.Model.Shipper;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ShipperRepository extends JpaRepository<Shipper, Integer> {
 
+	/**
+	 * Carrier list, answered from the query cache until a Shipper row changes
+	 */
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Shipper> findAll();
+
 }
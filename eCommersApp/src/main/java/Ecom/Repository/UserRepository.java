@@ -2,15 +2,25 @@ package Ecom.Repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import Ecom.DTO.UserCredentials;
 import Ecom.Model.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends JpaRepository<User, Integer>, UserSearchRepository {
 	
 	public Optional<User> findByEmail( String email);
 
+	@EntityGraph("User.address")
+	public Optional<User> findWithAddressByUserId(Integer userId);
+
+	@Query("SELECT new Ecom.DTO.UserCredentials(u.email, u.password, u.role, u.userAccountStatus) "
+			+ "FROM User u WHERE u.email = :email")
+	public Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
 }
@@ -0,0 +1,16 @@
+package Ecom.Repository;
+
+import java.util.List;
+
+import Ecom.DTO.CustomerSearchCriteria;
+import Ecom.DTO.CustomerSummaryDTO;
+
+public interface UserSearchRepository {
+
+	/**
+	 * Returns at most {@code limit} customers matching the criteria, ordered by id,
+	 * starting after {@code criteria.getCursor()}.
+	 */
+	List<CustomerSummaryDTO> searchCustomers(CustomerSearchCriteria criteria, int limit);
+
+}
@@ -0,0 +1,64 @@
+package Ecom.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import Ecom.DTO.CustomerSearchCriteria;
+import Ecom.DTO.CustomerSummaryDTO;
+import Ecom.Model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria based admin customer listing. Prefix filters are written as
+ * lower(column) LIKE 'prefix%' so they can be served by the lower() expression indexes on Users.
+ */
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<CustomerSummaryDTO> searchCustomers(CustomerSearchCriteria criteria, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<CustomerSummaryDTO> query = cb.createQuery(CustomerSummaryDTO.class);
+		Root<User> user = query.from(User.class);
+
+		List<Predicate> predicates = new ArrayList<>();
+		if (criteria.getEmail() != null) {
+			predicates.add(cb.like(cb.lower(user.get("email")), prefixPattern(criteria.getEmail()), '\\'));
+		}
+		if (criteria.getName() != null) {
+			String name = prefixPattern(criteria.getName());
+			predicates.add(cb.or(cb.like(cb.lower(user.get("firstName")), name, '\\'),
+					cb.like(cb.lower(user.get("lastName")), name, '\\')));
+		}
+		if (criteria.getCursor() != null) {
+			predicates.add(cb.greaterThan(user.get("userId"), criteria.getCursor()));
+		}
+
+		query.select(cb.construct(CustomerSummaryDTO.class, user.get("userId"), user.get("email"),
+				user.get("firstName"), user.get("lastName"), user.get("phoneNumber"), user.get("registerTime"),
+				user.get("userAccountStatus")))
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(cb.asc(user.get("userId")));
+
+		return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+	}
+
+	/**
+	 * Lower-cased prefix with LIKE wildcards in the input escaped
+	 */
+	private static String prefixPattern(String prefix) {
+		String escaped = prefix.toLowerCase(Locale.ROOT)
+				.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+		return escaped + "%";
+	}
+}
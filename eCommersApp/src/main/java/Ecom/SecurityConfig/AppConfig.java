@@ -2,7 +2,9 @@ package Ecom.SecurityConfig;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,7 +12,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -19,10 +20,14 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import Ecom.Config.CorrelationIdFilter;
+import Ecom.Config.RateLimitProperties;
+import Ecom.Service.RefreshTokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Lazy;
 
@@ -31,13 +36,31 @@ import org.springframework.context.annotation.Lazy;
 public class AppConfig {
 
     private final UserDetailsService userDetailsService;
+
+    private final JwtTokenProvider tokenProvider;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.bcrypt.threads:0}")
+    private int bcryptThreads;
+
+    @Value("${security.bcrypt.queue-capacity:64}")
+    private int bcryptQueueCapacity;
     
-    public AppConfig(@Lazy UserDetailsService userDetailsService) {
+    public AppConfig(@Lazy UserDetailsService userDetailsService, JwtTokenProvider tokenProvider,
+            MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
+        this.tokenProvider = tokenProvider;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
-    public SecurityFilterChain springSecurityConfiguration(HttpSecurity http) throws Exception {
+    public SecurityFilterChain springSecurityConfiguration(HttpSecurity http,
+            RouteAuthorizationManager routeAuthorizationManager, TokenBucketRateLimiter rateLimiter,
+            RateLimitProperties rateLimitProperties, RefreshTokenService refreshTokenService) throws Exception {
 
         http.sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
@@ -62,65 +85,104 @@ public class AppConfig {
                             cfg.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
                             cfg.setAllowCredentials(true);
                             cfg.setAllowedHeaders(Collections.singletonList("*"));
-                            cfg.setExposedHeaders(Arrays.asList("Authorization"));
+                            cfg.setExposedHeaders(Arrays.asList("Authorization", CorrelationIdFilter.HEADER));
 
                             return cfg;
 
                         }
                     });
                 })
-                .authorizeHttpRequests(auth -> {
-                    auth
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/admin", HttpMethod.POST.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/customers", HttpMethod.POST.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/orders/users/**", HttpMethod.DELETE.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/product-reviews/**", HttpMethod.GET.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/products/**", HttpMethod.GET.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/signIn", HttpMethod.GET.name())).authenticated()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/auth/login", HttpMethod.POST.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("ecom/products/insert", HttpMethod.POST.name())).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/product/**", HttpMethod.POST.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shippers/**", HttpMethod.POST.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/product-reviews/**", HttpMethod.POST.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/customer-addresses/**", HttpMethod.POST.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/cart/**", HttpMethod.POST.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/orders/**", HttpMethod.POST.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shipping/**", HttpMethod.POST.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/admin/**", HttpMethod.PUT.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/products/**", HttpMethod.PUT.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/product-reviews/**", HttpMethod.PUT.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/customer-addresses/update/**", HttpMethod.PUT.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/cart/**", HttpMethod.PUT.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shipping/**", HttpMethod.PUT.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/products/**", HttpMethod.DELETE.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/product-reviews/**", HttpMethod.DELETE.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/customer-addresses/delete/**", HttpMethod.DELETE.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shipping/**", HttpMethod.DELETE.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shippers/**", HttpMethod.DELETE.name())).hasRole("ADMIN")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/cart/remove-product/**", HttpMethod.DELETE.name())).hasRole("USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/customer-addresses/**", HttpMethod.GET.name())).hasAnyRole("ADMIN", "USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/cart/products/**", HttpMethod.GET.name())).hasAnyRole("ADMIN", "USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/orders/**", HttpMethod.GET.name())).hasAnyRole("ADMIN", "USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-shippers", HttpMethod.GET.name())).hasAnyRole("ADMIN", "USER")
-                            .requestMatchers(new AntPathRequestMatcher("/ecom/order-payments/**", HttpMethod.GET.name())).hasAnyRole("ADMIN", "USER")
-                            .requestMatchers(new AntPathRequestMatcher("/")).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/error")).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/actuator/**")).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/actuator/health/**")).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/swagger-ui*/**")).permitAll()
-                            .requestMatchers(new AntPathRequestMatcher("/v3/api-docs/**")).permitAll()
-                            .anyRequest().authenticated();
-                })
+                .authorizeHttpRequests(auth -> auth.anyRequest().access(routeAuthorizationManager))
                 .authenticationProvider(authenticationProvider())
                 .csrf(csrf -> csrf.disable())
-                .addFilterAfter(new JwtTokenGeneratorFilter(), BasicAuthenticationFilter.class)
-                .addFilterBefore(new JwtTokenValidatorFilter(), BasicAuthenticationFilter.class)
-                .httpBasic(Customizer.withDefaults());
+                .addFilterAfter(new JwtAuthenticationFilter(tokenProvider, refreshTokenService), BasicAuthenticationFilter.class)
+                .httpBasic(basic -> basic.authenticationEntryPoint(new LoginThrottledEntryPoint()));
+
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterBefore(new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry,
+                    RateLimitFilter.Stage.PRE_AUTHENTICATION), BasicAuthenticationFilter.class);
+            http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry,
+                    RateLimitFilter.Stage.POST_AUTHENTICATION), JwtAuthenticationFilter.class);
+        }
 
         return http.build();
 
     }
 
+    /**
+     * URL authorization rules, first match wins (order matters).
+     * Compiled once into a method-indexed path trie - see RouteAuthorizationTable.
+     */
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+                .permitAll(HttpMethod.POST, "/ecom/admin")
+                .permitAll(HttpMethod.POST, "/ecom/customers")
+                .permitAll(HttpMethod.DELETE, "/ecom/orders/users/**")
+                .permitAll(HttpMethod.GET, "/ecom/product-reviews/**")
+                .permitAll(HttpMethod.GET, "/ecom/products/**")
+                .authenticated(HttpMethod.GET, "/ecom/signIn")
+                .permitAll(HttpMethod.POST, "/ecom/auth/login")
+                .permitAll(HttpMethod.POST, "/ecom/auth/refresh")
+                .authenticated(HttpMethod.POST, "/ecom/auth/introspect")
+                .permitAll(HttpMethod.POST, "ecom/products/insert")
+                .hasRole(HttpMethod.POST, "/ecom/product/**", "ADMIN")
+                .hasRole(HttpMethod.POST, "/ecom/order-shippers/**", "ADMIN")
+                .hasRole(HttpMethod.POST, "/ecom/product-reviews/**", "USER")
+                .hasRole(HttpMethod.POST, "/ecom/customer-addresses/**", "USER")
+                .hasRole(HttpMethod.POST, "/ecom/cart/**", "USER")
+                .hasRole(HttpMethod.POST, "/ecom/orders/**", "USER")
+                .hasRole(HttpMethod.POST, "/ecom/order-shipping/**", "USER")
+                .hasRole(HttpMethod.PUT, "/ecom/admin/**", "ADMIN")
+                .hasRole(HttpMethod.PUT, "/ecom/orders/admin/**", "ADMIN")
+                .hasRole(HttpMethod.PUT, "/ecom/products/**", "ADMIN")
+                .hasRole(HttpMethod.PUT, "/ecom/product-reviews/**", "USER")
+                .hasRole(HttpMethod.PUT, "/ecom/customer-addresses/update/**", "USER")
+                .hasRole(HttpMethod.PUT, "/ecom/cart/**", "USER")
+                .hasRole(HttpMethod.PUT, "/ecom/order-shipping/**", "USER")
+                .hasRole(HttpMethod.DELETE, "/ecom/products/**", "ADMIN")
+                .hasRole(HttpMethod.DELETE, "/ecom/product-reviews/**", "ADMIN")
+                .hasRole(HttpMethod.DELETE, "/ecom/customer-addresses/delete/**", "ADMIN")
+                .hasRole(HttpMethod.DELETE, "/ecom/order-shipping/**", "ADMIN")
+                .hasRole(HttpMethod.DELETE, "/ecom/order-shippers/**", "ADMIN")
+                .hasRole(HttpMethod.DELETE, "/ecom/cart/remove-product/**", "USER")
+                .hasRole(HttpMethod.GET, "/ecom/customers/get-all-customer/**", "ADMIN")
+                .hasAnyRole(HttpMethod.GET, "/ecom/customer-addresses/**", "ADMIN", "USER")
+                .hasAnyRole(HttpMethod.GET, "/ecom/cart/products/**", "ADMIN", "USER")
+                .hasRole(HttpMethod.GET, "/ecom/orders/admin/**", "ADMIN")
+                .hasAnyRole(HttpMethod.GET, "/ecom/orders/**", "ADMIN", "USER")
+                .hasAnyRole(HttpMethod.GET, "/ecom/order-shippers", "ADMIN", "USER")
+                .hasAnyRole(HttpMethod.GET, "/ecom/order-payments/**", "ADMIN", "USER")
+                .permitAll("/")
+                .permitAll("/error")
+                .hasRole(HttpMethod.GET, "/actuator/metrics/**", "ADMIN")
+                .hasRole(HttpMethod.GET, "/actuator/loggers/**", "ADMIN")
+                .hasRole(HttpMethod.POST, "/actuator/loggers/**", "ADMIN")
+                .permitAll("/actuator/**")
+                .permitAll("/actuator/health/**")
+                .permitAll("/swagger-ui*/**")
+                .permitAll("/v3/api-docs/**")
+                .build();
+    }
+
+    @Bean
+    public RouteAuthorizationManager routeAuthorizationManager(RouteAuthorizationTable routeAuthorizationTable) {
+        return new RouteAuthorizationManager(routeAuthorizationTable, meterRegistry);
+    }
+
+    /**
+     * Shared bucket store for RateLimitFilter; live bucket count is published as ecom.ratelimit.buckets
+     */
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties rateLimitProperties) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(rateLimitProperties.getMaxKeys(),
+                rateLimitProperties.getIdleTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        Gauge.builder("ecom.ratelimit.buckets", limiter, TokenBucketRateLimiter::size)
+                .description("Live rate limit buckets")
+                .register(meterRegistry);
+        return limiter;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -129,9 +191,15 @@ public class AppConfig {
         return authProvider;
     }
 
+    /**
+     * BCrypt on its own bounded pool (see BoundedPasswordEncoder).
+     * security.bcrypt.strength only affects new hashes; existing ones keep their own cost.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = bcryptThreads > 0 ? bcryptThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads,
+                bcryptQueueCapacity, meterRegistry);
     }
 
     @Bean
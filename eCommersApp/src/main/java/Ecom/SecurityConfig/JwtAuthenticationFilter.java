@@ -1,103 +1,114 @@
 package Ecom.SecurityConfig;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import Ecom.Service.RefreshTokenService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * JWT Authentication Filter
- * Validates incoming JWT tokens and sets security context
- * Compatible with third-party middleware - extracts all token claims for access control
+ * The single token stage of the security chain, installed right after HTTP Basic:
+ * - bearer token (header or ?accessToken=) present: verified once through
+ *   {@link JwtTokenProvider#verify(String)} and turned into the security context. Only access
+ *   and session tokens are accepted: refresh tokens are for /ecom/auth/refresh and middleware
+ *   tokens for introspection. An access token whose refresh token (sid) was revoked or rotated
+ *   is refused; the denylist is per instance, which the 15 minute access lifetime bounds.
+ * - HTTP Basic login on /ecom/signIn: issues the session token for the web client
+ * Invalid tokens leave the request anonymous; the authorization rules decide what happens next.
+ * Compatible with third-party middleware - all token claims are kept as authentication details
  */
-@Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private JwtTokenProvider tokenProvider;
-
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String TOKEN_PARAMETER = "accessToken";
+    private static final String SIGN_IN_PATH = "/ecom/signIn";
+
+    /**
+     * Request attribute read by LoginController to return the issued session token
+     */
+    public static final String ISSUED_TOKEN_ATTRIBUTE = "jwtToken";
+
+    private final JwtTokenProvider tokenProvider;
+
+    private final RefreshTokenService refreshTokenService;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, RefreshTokenService refreshTokenService) {
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+    }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, 
-                                  HttpServletResponse response, 
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
-        try {
+        Authentication current = SecurityContextHolder.getContext().getAuthentication();
+
+        if (current == null) {
             String token = extractToken(request);
-            
-            if (token != null && tokenProvider.validateToken(token)) {
-                String username = tokenProvider.getUsernameFromJWT(token);
-                String[] authorities = tokenProvider.getAuthoritiesFromJWT(token);
-                
-                // Convert authorities to Spring Security format
-                List<SimpleGrantedAuthority> grantedAuthorities = Arrays.stream(authorities)
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-                
-                // Create authentication token
-                UsernamePasswordAuthenticationToken authenticationToken = 
-                        new UsernamePasswordAuthenticationToken(
-                                username, 
-                                null, 
-                                grantedAuthorities
-                        );
-                
-                // Store additional claims for middleware integration
-                authenticationToken.setDetails(extractTokenClaims(token));
-                
-                // Set security context
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            if (token != null) {
+                authenticate(token);
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
+        } else if (SIGN_IN_PATH.equals(request.getServletPath())) {
+            String jwt = tokenProvider.generateSessionToken(current);
+            response.setHeader(SecurityConstants.JWT_HEADER, jwt);
+            request.setAttribute(ISSUED_TOKEN_ATTRIBUTE, jwt);
         }
-        
+
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(String token) {
+        try {
+            VerifiedToken verified = tokenProvider.verify(token);
+            if (verified.getTokenType() != null && !JwtTokenProvider.ACCESS.equals(verified.getTokenType())) {
+                logger.debug("Rejected JWT: " + verified.getTokenType() + " token used as a bearer token");
+                return;
+            }
+            if (verified.getSessionId() != null && refreshTokenService.isRevoked(verified.getSessionId())) {
+                logger.debug("Rejected JWT: its refresh token has been revoked");
+                return;
+            }
+
+            // Convert authorities to Spring Security format
+            List<SimpleGrantedAuthority> grantedAuthorities = verified.getAuthorities().stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toList());
+
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(verified.getSubject(), null, grantedAuthorities);
+
+            // Store additional claims for middleware integration
+            authenticationToken.setDetails(verified.getClaims());
+
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.debug("Rejected JWT: " + ex.getMessage());
+        }
+    }
+
     /**
-     * Extract token from Authorization header
+     * Token from the query string (?accessToken=...) first, then the Authorization header
      */
     private String extractToken(HttpServletRequest request) {
-        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        String token = request.getParameter(TOKEN_PARAMETER);
+        if (token != null && !token.isEmpty()) {
+            return token;
+        }
+        String authHeader = request.getHeader(SecurityConstants.JWT_HEADER);
         if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
             return authHeader.substring(BEARER_PREFIX.length());
         }
         return null;
     }
-
-    /**
-     * Extract all claims from token for third-party middleware integration
-     */
-    private Claims extractTokenClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(SecurityConstants.JWT_KEY.getBytes())
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        // Skip filter for public endpoints
-        return path.contains("/ecom/customers") || 
-               path.contains("/ecom/admin") ||
-               path.contains("/ecom/products") ||
-               path.contains("/swagger") ||
-               path.contains("/v3/api-docs");
-    }
 }
@@ -1,20 +1,58 @@
 package Ecom.SecurityConfig;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * JWT Token Provider - Handles token generation, validation, and refresh
  * Token validity: Access token = 15 minutes, Refresh token = 7 days
  * Supports middleware and third-party integrations via standard JWT format
+ *
+ * Every read goes through {@link #verify(String)}: one signature check and claim decode
+ * per distinct token, cached until the token's own exp claim.
+ *
+ * Two token layouts are in circulation and both are accepted:
+ * - standard (this class, HS512 with jwt.secret): subject = "sub", authorities = array
+ * - session (/ecom/signIn, HS256 with SecurityConstants.JWT_KEY): subject = "username",
+ *   authorities = comma separated string
+ * The signing algorithm in the header selects the key, so a token is verified exactly once.
  */
 @Component
 public class JwtTokenProvider {
 
+    /**
+     * tokenType claim values
+     */
+    public static final String ACCESS = "ACCESS";
+    public static final String REFRESH = "REFRESH";
+    public static final String MIDDLEWARE = "MIDDLEWARE";
+
     @Value("${jwt.secret:secretsfhsfjhdkjngdfjkgfgjdlkfjsdkfjsd}")
     private String jwtSecret;
 
@@ -24,11 +62,75 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration:604800000}") // 7 days default
     private int refreshTokenExpiration;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    /**
+     * Validity of the session token handed out by /ecom/signIn
+     */
+    private static final long SESSION_TOKEN_VALIDITY = 30000000L;
+
+    private Key signingKey;
+
+    private Key sessionKey;
+
+    private JwtParser parser;
+
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Decode the secrets and build the parser once instead of on every call.
+     * Same key material as the former signWith(HS512, secret) / setSigningKey(secret)
+     * and Keys.hmacShaKeyFor(JWT_KEY) used by the session token filters.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = new SecretKeySpec(Decoders.BASE64.decode(jwtSecret), SignatureAlgorithm.HS512.getJcaName());
+        sessionKey = Keys.hmacShaKeyFor(SecurityConstants.JWT_KEY.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return SignatureAlgorithm.HS512.getValue().equals(header.getAlgorithm()) ? signingKey : sessionKey;
+                    }
+                })
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Generate Access Token (short-lived, contains user claims)
      * Valid for 15 minutes by default
      */
     public String generateAccessToken(Authentication authentication) {
+        return generateAccessToken(authentication, null);
+    }
+
+    /**
+     * Generate an Access Token bound to the refresh token it is issued with (sid claim):
+     * once that refresh token is revoked or rotated, the access token is refused as well
+     */
+    public String generateAccessToken(Authentication authentication, String sessionId) {
         String username = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
@@ -38,9 +140,11 @@ public class JwtTokenProvider {
                 .claim("authorities", authentication.getAuthorities().stream()
                         .map(auth -> auth.getAuthority())
                         .toArray(String[]::new))
+                .claim("tokenType", ACCESS)
+                .claim("sid", sessionId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -50,15 +154,23 @@ public class JwtTokenProvider {
      * Can be stored in database for revocation management
      */
     public String generateRefreshToken(String username) {
+        return generateRefreshToken(username, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Generate Refresh Token with a given jti, the key of the refresh token registry
+     */
+    public String generateRefreshToken(String username, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .setId(tokenId)
                 .setSubject(username)
-                .claim("tokenType", "REFRESH")
+                .claim("tokenType", REFRESH)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -73,40 +185,77 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setSubject(username)
                 .claim("scopes", scopes)
-                .claim("tokenType", "MIDDLEWARE")
+                .claim("tokenType", MIDDLEWARE)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Generate the session token returned by /ecom/signIn after HTTP Basic login
+     * Keeps the layout the web client has always received
+     */
+    public String generateSessionToken(Authentication authentication) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setIssuer("e-commerse")
+                .setSubject("JWT Token")
+                .claim("username", authentication.getName())
+                .claim("authorities", String.join(",", authentication.getAuthorities().stream()
+                        .map(auth -> auth.getAuthority())
+                        .collect(Collectors.toCollection(LinkedHashSet::new))))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + SESSION_TOKEN_VALIDITY))
+                .signWith(sessionKey)
                 .compact();
     }
 
+    /**
+     * Verify signature and decode claims in one pass
+     * Repeat calls with the same token are answered from the cache until it expires
+     *
+     * @throws JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT string is empty");
+        }
+        String tokenId = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenId);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = new VerifiedToken(
+                tokenId,
+                claims.getId(),
+                subjectOf(claims),
+                authoritiesOf(claims),
+                claims.get("tokenType", String.class),
+                claims.get("sid", String.class),
+                toStringList(claims.get("scopes")),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+        verifiedTokens.put(tokenId, verified);
+        return verified;
+    }
+
     /**
      * Extract username from JWT token
      */
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verify(token).getSubject();
     }
 
     /**
      * Extract authorities from JWT token
      */
     public String[] getAuthoritiesFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-        
-        Object authoritiesObj = claims.get("authorities");
-        if (authoritiesObj instanceof java.util.List) {
-            return ((java.util.List<?>) authoritiesObj).stream()
-                    .map(Object::toString)
-                    .toArray(String[]::new);
-        }
-        return new String[]{};
+        return verify(token).getAuthorities().toArray(String[]::new);
     }
 
     /**
@@ -114,9 +263,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtSecret)
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (SecurityException e) {
             throw new RuntimeException("Invalid JWT signature: " + e.getMessage());
@@ -136,11 +283,7 @@ public class JwtTokenProvider {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(jwtSecret)
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getExpiration().before(new Date());
+            return verify(token).isExpired();
         } catch (ExpiredJwtException e) {
             return true;
         }
@@ -150,10 +293,48 @@ public class JwtTokenProvider {
      * Get token expiration time
      */
     public long getExpirationTime(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getExpiration().getTime() - System.currentTimeMillis();
+        return verify(token).getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+    }
+
+    private static long remainingNanos(VerifiedToken token) {
+        if (token.getExpiresAt() == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+    }
+
+    /**
+     * Session tokens carry the user in "username" and a fixed "JWT Token" subject
+     */
+    private static String subjectOf(Claims claims) {
+        Object username = claims.get("username");
+        return username != null ? username.toString() : claims.getSubject();
+    }
+
+    /**
+     * Session tokens carry authorities as one comma separated string
+     */
+    private static List<String> authoritiesOf(Claims claims) {
+        Object authorities = claims.get("authorities");
+        if (authorities instanceof String value) {
+            return value.isEmpty() ? List.of() : List.of(value.split(","));
+        }
+        return toStringList(authorities);
+    }
+
+    private static List<String> toStringList(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(Object::toString).toList();
+        }
+        return List.of();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
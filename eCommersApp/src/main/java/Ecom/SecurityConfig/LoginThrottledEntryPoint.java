@@ -0,0 +1,52 @@
+package Ecom.SecurityConfig;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.DelegatingAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestHeaderRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import Ecom.Exception.LoginThrottledException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTP Basic entry point that answers 429 + Retry-After when the password hashing pool
+ * refused the login, and otherwise behaves exactly like the default httpBasic() entry point
+ * (401 with WWW-Authenticate, plain 401 for XMLHttpRequest).
+ */
+public class LoginThrottledEntryPoint implements AuthenticationEntryPoint {
+
+    private final AuthenticationEntryPoint delegate;
+
+    public LoginThrottledEntryPoint() {
+        BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("Realm");
+
+        LinkedHashMap<RequestMatcher, AuthenticationEntryPoint> entryPoints = new LinkedHashMap<>();
+        entryPoints.put(new RequestHeaderRequestMatcher("X-Requested-With", "XMLHttpRequest"),
+                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
+        DelegatingAuthenticationEntryPoint delegating = new DelegatingAuthenticationEntryPoint(entryPoints);
+        delegating.setDefaultEntryPoint(basic);
+        this.delegate = delegating;
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+            AuthenticationException authException) throws IOException, ServletException {
+        if (authException instanceof LoginThrottledException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(LoginThrottledException.RETRY_AFTER_SECONDS));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), authException.getMessage());
+            return;
+        }
+        delegate.commence(request, response, authException);
+    }
+}
@@ -0,0 +1,89 @@
+package Ecom.SecurityConfig;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import Ecom.Entity.UserPermission;
+import Ecom.Entity.UserPermission.PermissionType;
+import Ecom.Enum.PermissionResource;
+
+/**
+ * A user's active permissions compiled into a bitset over (PermissionResource, PermissionType).
+ * Bit index = resource ordinal * PermissionType count + type ordinal, so a check is one map
+ * lookup and one bit test. Instances are immutable and shared through the permission cache.
+ *
+ * The index is fixed by the two enums, so it is the same in every process and nothing is
+ * registered at runtime. Rows naming a resource that is not a PermissionResource grant nothing.
+ */
+public final class PermissionSet {
+
+    private static final int TYPES = PermissionType.values().length;
+
+    private static final int WORDS = (PermissionResource.values().length * TYPES + 63) >>> 6;
+
+    public static final PermissionSet EMPTY = new PermissionSet(new long[WORDS]);
+
+    private final long[] bits;
+
+    private PermissionSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    public static PermissionSet of(Collection<UserPermission> permissions) {
+        if (permissions.isEmpty()) {
+            return EMPTY;
+        }
+        long[] bits = new long[WORDS];
+        for (UserPermission permission : permissions) {
+            PermissionResource resource = PermissionResource.fromName(permission.getResourceName()).orElse(null);
+            if (resource != null) {
+                int bit = bit(resource, permission.getPermissionType());
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new PermissionSet(bits);
+    }
+
+    public boolean has(String resourceName, PermissionType type) {
+        return PermissionResource.fromName(resourceName).map(resource -> has(resource, type)).orElse(false);
+    }
+
+    public boolean has(PermissionResource resource, PermissionType type) {
+        int bit = bit(resource, type);
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decoded (resourceName, PermissionType) pairs, for display
+     */
+    public List<Map.Entry<String, PermissionType>> entries() {
+        List<Map.Entry<String, PermissionType>> entries = new ArrayList<>();
+        PermissionResource[] resources = PermissionResource.values();
+        PermissionType[] types = PermissionType.values();
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                int bit = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(resources[bit / TYPES].name(), types[bit % TYPES]));
+                remaining &= remaining - 1;
+            }
+        }
+        return entries;
+    }
+
+    private static int bit(PermissionResource resource, PermissionType type) {
+        return resource.ordinal() * TYPES + type.ordinal();
+    }
+}
@@ -0,0 +1,260 @@
+package Ecom.SecurityConfig;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Ecom.Config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rate Limit Filter
+ * Applies the rate-limit.routes token buckets before any controller work (password hashing,
+ * order placement) is done. Registered twice:
+ * PRE_AUTHENTICATION  - IP and ACCOUNT keyed routes, ahead of BasicAuthenticationFilter, so a
+ *                       throttled client never gets a BCrypt check out of /ecom/signIn
+ * POST_AUTHENTICATION - USER keyed routes, after JwtAuthenticationFilter has set the caller
+ * Over the limit: 429 with Retry-After, counted in ecom.ratelimit.rejected{route}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public enum Stage {
+        PRE_AUTHENTICATION,
+        POST_AUTHENTICATION
+    }
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Larger login bodies are passed on unread; they only get the per-IP bucket
+     */
+    private static final int MAX_ACCOUNT_BODY = 4096;
+
+    private final TokenBucketRateLimiter limiter;
+
+    private final Stage stage;
+
+    private final List<RateLimitProperties.Route> routes;
+
+    private final Counter[] rejected;
+
+    public RateLimitFilter(TokenBucketRateLimiter limiter, RateLimitProperties properties, MeterRegistry meterRegistry,
+                           Stage stage) {
+        this.limiter = limiter;
+        this.stage = stage;
+        this.routes = List.copyOf(properties.getRoutes());
+        this.rejected = new Counter[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            if (stageOf(routes.get(i)) == stage) {
+                rejected[i] = Counter.builder("ecom.ratelimit.rejected")
+                        .description("Requests refused by the rate limiter")
+                        .tag("route", routeName(routes.get(i)))
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = requestPath(request);
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimitProperties.Route route = routes.get(i);
+            if (rejected[i] == null || !matches(route, request.getMethod(), path)) {
+                continue;
+            }
+            String clientKey;
+            if (route.getKey() == RateLimitProperties.KeyType.ACCOUNT) {
+                if (!(request instanceof CachedBodyRequest) && readsBody(request)) {
+                    request = new CachedBodyRequest(request);
+                }
+                String account = account(request);
+                if (account == null) {
+                    continue;
+                }
+                clientKey = "a:" + account;
+            } else {
+                clientKey = clientKey(route, request);
+            }
+            String key = i + "|" + clientKey;
+            long waitNanos = limiter.tryAcquire(key, route.getCapacity(), route.getRefillPerMinute() / 60.0);
+            if (waitNanos > 0) {
+                rejected[i].increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * One marker per stage, otherwise the second instance would see the request as already filtered
+     */
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return RateLimitFilter.class.getName() + "." + stage + ".FILTERED";
+    }
+
+    private static Stage stageOf(RateLimitProperties.Route route) {
+        return route.getKey() == RateLimitProperties.KeyType.USER ? Stage.POST_AUTHENTICATION : Stage.PRE_AUTHENTICATION;
+    }
+
+    private static boolean matches(RateLimitProperties.Route route, String method, String path) {
+        return (route.getMethod() == null || route.getMethod().isEmpty() || route.getMethod().equalsIgnoreCase(method))
+                && PATH_MATCHER.match(route.getPattern(), path);
+    }
+
+    /**
+     * Servlet path + path info, the same path the authorization rules see
+     */
+    private static String requestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? request.getServletPath() + pathInfo : request.getServletPath();
+    }
+
+    private static String clientKey(RateLimitProperties.Route route, HttpServletRequest request) {
+        if (route.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "u:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Account a login attempt is made against: the HTTP Basic user name, else the "email" of a
+     * JSON body; null when the request names none. Case-folded so variants share one bucket.
+     */
+    static String account(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, "Basic ", 0, 6)) {
+            try {
+                String credentials = new String(Base64.getDecoder().decode(header.substring(6).trim()),
+                        StandardCharsets.UTF_8);
+                int colon = credentials.indexOf(':');
+                return normalize(colon < 0 ? credentials : credentials.substring(0, colon));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        if (request instanceof CachedBodyRequest) {
+            try {
+                JsonNode email = OBJECT_MAPPER.readTree(((CachedBodyRequest) request).body).get("email");
+                return email != null && email.isTextual() ? normalize(email.asText()) : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String account) {
+        String trimmed = account.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean readsBody(HttpServletRequest request) {
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            return false;
+        }
+        long length = request.getContentLengthLong();
+        String contentType = request.getContentType();
+        return length > 0 && length <= MAX_ACCOUNT_BODY && contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"message\":\"Too many requests\",\"retryAfterSeconds\":" + retryAfter + "}");
+    }
+
+    private static String routeName(RateLimitProperties.Route route) {
+        String method = route.getMethod() == null || route.getMethod().isEmpty() ? "ANY" : route.getMethod();
+        return method + " " + route.getPattern() + (route.getKey() == RateLimitProperties.KeyType.ACCOUNT ? " (account)" : "");
+    }
+
+    /**
+     * Holds a small request body read ahead of the controller, replayed to whoever reads it next
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
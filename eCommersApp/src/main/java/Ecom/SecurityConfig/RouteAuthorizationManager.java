@@ -0,0 +1,80 @@
+package Ecom.SecurityConfig;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Route Authorization Manager
+ * Single authorization step of the security chain: one lookup in the compiled
+ * {@link RouteAuthorizationTable} per request.
+ * Every decision is counted in "ecom.security.authorization" tagged with the rule
+ * that decided it and the outcome (granted / denied).
+ */
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String METRIC = "ecom.security.authorization";
+
+    private final RouteAuthorizationTable table;
+
+    /**
+     * Counters indexed by rule order; the fallback rule sits at the end
+     */
+    private final Counter[] granted;
+    private final Counter[] denied;
+
+    public RouteAuthorizationManager(RouteAuthorizationTable table, MeterRegistry meterRegistry) {
+        this.table = table;
+        List<RouteAuthorizationTable.Rule> rules = table.getRules();
+        this.granted = new Counter[rules.size() + 1];
+        this.denied = new Counter[rules.size() + 1];
+        for (RouteAuthorizationTable.Rule rule : rules) {
+            register(meterRegistry, rule.getOrder(), rule.getName());
+        }
+        register(meterRegistry, table.getFallback().getOrder(), "anyRequest");
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        RouteAuthorizationTable.Rule rule = table.match(request.getMethod(), requestPath(request));
+
+        boolean allowed = rule.getAccess() == RouteAuthorizationTable.Access.PERMIT_ALL
+                || rule.permits(authentication.get());
+        (allowed ? granted : denied)[rule.getOrder()].increment();
+        return new AuthorizationDecision(allowed);
+    }
+
+    /**
+     * Same path AntPathRequestMatcher matches against: servlet path + path info
+     */
+    private static String requestPath(HttpServletRequest request) {
+        String url = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            url = (url != null && !url.isEmpty()) ? url + pathInfo : pathInfo;
+        }
+        return url;
+    }
+
+    private void register(MeterRegistry meterRegistry, int order, String rule) {
+        granted[order] = Counter.builder(METRIC)
+                .description("Authorization decisions per route rule")
+                .tag("rule", rule)
+                .tag("decision", "granted")
+                .register(meterRegistry);
+        denied[order] = Counter.builder(METRIC)
+                .description("Authorization decisions per route rule")
+                .tag("rule", rule)
+                .tag("decision", "denied")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,338 @@
+package Ecom.SecurityConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Value;
+
+/**
+ * Route Authorization Table
+ * The URL rules of the security chain compiled into one path trie per HTTP method.
+ * A lookup walks the request path once and returns the first declared rule that matches -
+ * the same answer the ordered AntPathRequestMatcher chain gives, without testing every rule.
+ *
+ * Supported patterns (everything AppConfig declares): literal segments, "*" / "?" inside a
+ * segment, and a trailing "/**". Like AntPathRequestMatcher, matching is case sensitive and a
+ * pattern without a leading "/" never matches a request path.
+ */
+public final class RouteAuthorizationTable {
+
+    public enum Access {
+        PERMIT_ALL, AUTHENTICATED, HAS_ROLE
+    }
+
+    /**
+     * One declared rule; order is its position in the declaration (lower wins)
+     */
+    @Value
+    public static class Rule {
+
+        int order;
+
+        /**
+         * null = any method
+         */
+        HttpMethod method;
+
+        String pattern;
+
+        Access access;
+
+        Set<String> authorities;
+
+        public String getName() {
+            return (method != null ? method.name() : "ANY") + " " + pattern;
+        }
+
+        public boolean permits(Authentication authentication) {
+            switch (access) {
+                case PERMIT_ALL:
+                    return true;
+                case AUTHENTICATED:
+                    return authentication != null && authentication.isAuthenticated()
+                            && !TRUST_RESOLVER.isAnonymous(authentication);
+                default:
+                    if (authentication == null || !authentication.isAuthenticated()) {
+                        return false;
+                    }
+                    for (GrantedAuthority granted : authentication.getAuthorities()) {
+                        if (authorities.contains(granted.getAuthority())) {
+                            return true;
+                        }
+                    }
+                    return false;
+            }
+        }
+    }
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final List<Rule> rules;
+
+    private final Rule fallback;
+
+    /**
+     * Method name -> trie holding that method's rules plus the method-less ones
+     */
+    private final Map<String, Node> tries = new HashMap<>();
+
+    /**
+     * Rules without a method, for methods no rule names
+     */
+    private final Node anyMethod = new Node();
+
+    /**
+     * Every rule, for requests without a method (AntPathRequestMatcher then ignores the method)
+     */
+    private final Node allRules = new Node();
+
+    private RouteAuthorizationTable(List<Rule> rules, Rule fallback) {
+        this.rules = Collections.unmodifiableList(rules);
+        this.fallback = fallback;
+
+        Set<String> methods = new LinkedHashSet<>();
+        for (Rule rule : rules) {
+            if (rule.getMethod() != null) {
+                methods.add(rule.getMethod().name());
+            }
+        }
+        for (String method : methods) {
+            tries.put(method, new Node());
+        }
+        for (Rule rule : rules) {
+            allRules.insert(rule);
+            if (rule.getMethod() == null) {
+                anyMethod.insert(rule);
+                tries.values().forEach(trie -> trie.insert(rule));
+            } else {
+                tries.get(rule.getMethod().name()).insert(rule);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    /**
+     * The anyRequest() rule, applied when no declared rule matches
+     */
+    public Rule getFallback() {
+        return fallback;
+    }
+
+    /**
+     * First declared rule matching the request, or the fallback rule
+     *
+     * @param method HTTP method of the request
+     * @param path   servlet path + path info, as AntPathRequestMatcher sees it
+     */
+    public Rule match(String method, String path) {
+        if (path == null || !path.startsWith("/")) {
+            return fallback;
+        }
+        Node root;
+        if (method == null || method.isEmpty()) {
+            root = allRules;
+        } else {
+            root = tries.getOrDefault(method, anyMethod);
+        }
+        int best = root.find(path, 0, path.endsWith("/"));
+        return best == NONE ? fallback : rules.get(best);
+    }
+
+    /**
+     * Trie node for one path segment
+     */
+    private static final class Node {
+
+        final Map<String, Node> literals = new HashMap<>();
+
+        final List<GlobChild> globs = new ArrayList<>();
+
+        /**
+         * Pattern ends at this node (without / with a trailing slash)
+         */
+        int exactRule = NONE;
+        int exactSlashRule = NONE;
+
+        /**
+         * Pattern ends with "/**" at this node: matches here and everything below
+         */
+        int subtreeRule = NONE;
+
+        void insert(Rule rule) {
+            String pattern = rule.getPattern();
+            if (!pattern.startsWith("/")) {
+                // never matches a request path, same as AntPathRequestMatcher
+                return;
+            }
+            String[] segments = tokenize(pattern);
+            Node node = this;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.equals("**")) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' is only supported at the end: " + pattern);
+                    }
+                    node.subtreeRule = Math.min(node.subtreeRule, rule.getOrder());
+                    return;
+                }
+                if (segment.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException("Path variables are not supported: " + pattern);
+                }
+                node = isGlob(segment) ? node.glob(segment) : node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+            if (pattern.endsWith("/")) {
+                node.exactSlashRule = Math.min(node.exactSlashRule, rule.getOrder());
+            } else {
+                node.exactRule = Math.min(node.exactRule, rule.getOrder());
+            }
+        }
+
+        int find(String path, int from, boolean trailingSlash) {
+            int best = subtreeRule;
+            int start = from;
+            while (start < path.length() && path.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= path.length()) {
+                return Math.min(best, trailingSlash ? exactSlashRule : exactRule);
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                best = Math.min(best, literal.find(path, end, trailingSlash));
+            }
+            for (GlobChild glob : globs) {
+                if (glob.pattern.matcher(segment).matches()) {
+                    best = Math.min(best, glob.node.find(path, end, trailingSlash));
+                }
+            }
+            return best;
+        }
+
+        private Node glob(String segment) {
+            for (GlobChild glob : globs) {
+                if (glob.segment.equals(segment)) {
+                    return glob.node;
+                }
+            }
+            GlobChild glob = new GlobChild(segment, toRegex(segment), new Node());
+            globs.add(glob);
+            return glob.node;
+        }
+    }
+
+    private static final class GlobChild {
+
+        final String segment;
+        final Pattern pattern;
+        final Node node;
+
+        GlobChild(String segment, Pattern pattern, Node node) {
+            this.segment = segment;
+            this.pattern = pattern;
+            this.node = node;
+        }
+    }
+
+    private static boolean isGlob(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+    }
+
+    private static Pattern toRegex(String segment) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : segment.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static String[] tokenize(String pattern) {
+        return Arrays.stream(pattern.split("/"))
+                .filter(s -> !s.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Rules are declared in priority order, like requestMatchers(...) calls
+     */
+    public static final class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        public Builder permitAll(HttpMethod method, String pattern) {
+            return add(method, pattern, Access.PERMIT_ALL);
+        }
+
+        public Builder permitAll(String pattern) {
+            return add(null, pattern, Access.PERMIT_ALL);
+        }
+
+        public Builder authenticated(HttpMethod method, String pattern) {
+            return add(method, pattern, Access.AUTHENTICATED);
+        }
+
+        public Builder hasRole(HttpMethod method, String pattern, String role) {
+            return hasAnyRole(method, pattern, role);
+        }
+
+        public Builder hasAnyRole(HttpMethod method, String pattern, String... roles) {
+            return add(method, pattern, Access.HAS_ROLE, roles);
+        }
+
+        /**
+         * Everything not matched by a declared rule requires an authenticated user
+         */
+        public RouteAuthorizationTable build() {
+            Rule fallback = new Rule(rules.size(), null, "/**", Access.AUTHENTICATED, Set.of());
+            return new RouteAuthorizationTable(new ArrayList<>(rules), fallback);
+        }
+
+        private Builder add(HttpMethod method, String pattern, Access access, String... roles) {
+            Set<String> authorities = new LinkedHashSet<>();
+            for (String role : roles) {
+                authorities.add("ROLE_" + role);
+            }
+            rules.add(new Rule(rules.size(), method, pattern, access, Collections.unmodifiableSet(authorities)));
+            return this;
+        }
+    }
+}
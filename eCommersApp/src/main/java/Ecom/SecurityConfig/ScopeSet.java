@@ -0,0 +1,118 @@
+package Ecom.SecurityConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A middleware token's scopes compiled into a bitmask, one bit per scope name.
+ * Checking a scope is one map lookup and one bit test; checking several is a word-wise AND.
+ * Instances are immutable and shared through the token scope cache.
+ *
+ * Scope names get their bit from a process-wide registry the first time a token carrying
+ * them is compiled; only admins mint middleware tokens, so the registry stays small.
+ */
+public final class ScopeSet {
+
+    private static final Map<String, Integer> SCOPE_INDEX = new ConcurrentHashMap<>();
+
+    private static final List<String> SCOPES = new CopyOnWriteArrayList<>();
+
+    public static final ScopeSet EMPTY = new ScopeSet(new long[0]);
+
+    private final long[] bits;
+
+    private ScopeSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Scopes granted by a token; unseen names are registered
+     */
+    public static ScopeSet of(Collection<String> scopes) {
+        if (scopes.isEmpty()) {
+            return EMPTY;
+        }
+        long[] bits = new long[0];
+        for (String scope : scopes) {
+            int bit = register(scope);
+            int word = bit >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << bit;
+        }
+        return new ScopeSet(bits);
+    }
+
+    /**
+     * Scopes a caller asks for; null if one of them was never granted to any token,
+     * in which case no token can satisfy the request
+     */
+    public static ScopeSet required(Collection<String> scopes) {
+        long[] bits = new long[0];
+        for (String scope : scopes) {
+            Integer bit = SCOPE_INDEX.get(scope);
+            if (bit == null) {
+                return null;
+            }
+            int word = bit >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << bit;
+        }
+        return new ScopeSet(bits);
+    }
+
+    public boolean has(String scope) {
+        Integer bit = SCOPE_INDEX.get(scope);
+        if (bit == null) {
+            return false;
+        }
+        int word = bit >>> 6;
+        return word < bits.length && (bits[word] & (1L << bit)) != 0;
+    }
+
+    public boolean containsAll(ScopeSet required) {
+        for (int word = 0; word < required.bits.length; word++) {
+            long granted = word < bits.length ? bits[word] : 0L;
+            if ((required.bits[word] & ~granted) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decoded scope names, for display
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                names.add(SCOPES.get((word << 6) + Long.numberOfTrailingZeros(remaining)));
+                remaining &= remaining - 1;
+            }
+        }
+        return names;
+    }
+
+    private static int register(String scope) {
+        Integer index = SCOPE_INDEX.get(scope);
+        if (index != null) {
+            return index;
+        }
+        synchronized (SCOPES) {
+            return SCOPE_INDEX.computeIfAbsent(scope, name -> {
+                SCOPES.add(name);
+                return SCOPES.size() - 1;
+            });
+        }
+    }
+}
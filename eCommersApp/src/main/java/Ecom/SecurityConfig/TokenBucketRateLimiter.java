@@ -0,0 +1,130 @@
+package Ecom.SecurityConfig;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token Bucket Rate Limiter
+ * In-process buckets keyed by an arbitrary string (route + client), split over lock stripes
+ * so unrelated clients never contend on the same lock.
+ *
+ * Memory is bounded: each stripe holds at most maxKeys / stripes buckets in LRU order, and
+ * buckets idle longer than idleTimeout are dropped as the stripe is touched. Dropping an idle
+ * bucket loses nothing once it has had time to refill.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final long idleTimeoutNanos;
+
+    public TokenBucketRateLimiter(int maxKeys, long idleTimeout, TimeUnit unit) {
+        int perStripe = Math.max(1, (maxKeys + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+    }
+
+    /**
+     * Takes one token from the bucket of {@code key}
+     *
+     * @return 0 if the request may proceed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now, idleTimeoutNanos);
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.take(now, capacity, refillPerSecond / TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Live buckets, for metrics
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+
+        final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxEntries) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        /**
+         * Access order puts the longest idle buckets first; stop at the first recent one
+         */
+        void evictIdle(long now, long idleTimeoutNanos) {
+            Iterator<Bucket> it = buckets.values().iterator();
+            while (it.hasNext()) {
+                if (now - it.next().lastAccess < idleTimeoutNanos) {
+                    return;
+                }
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        double tokens;
+
+        long lastRefill;
+
+        long lastAccess;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefill = now;
+            this.lastAccess = now;
+        }
+
+        long take(long now, int capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            lastAccess = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package Ecom.SecurityConfig;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import Ecom.Repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User Access
+ * Ownership check for routes that take a user id in the path: the route table only knows the
+ * caller's role, so controllers ask here whether the caller may act for that user.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccess {
+
+    private final UserRepository userRepository;
+
+    /**
+     * ADMIN may act for any user, other callers only for themselves
+     */
+    public boolean isAdminOrSelf(long userId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            return false;
+        }
+        if (auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+            return true;
+        }
+        return userRepository.findByEmail(auth.getName())
+                .map(user -> user.getUserId().longValue() == userId)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,51 @@
+package Ecom.SecurityConfig;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Value;
+
+/**
+ * Immutable result of verifying a JWT once: signature checked, claims decoded.
+ * Instances are shared through the verified-token cache, so nothing here may be mutable.
+ */
+@Value
+public class VerifiedToken {
+
+    /**
+     * SHA-256 of the raw token, base64url encoded; stable id for caches keyed by token
+     */
+    String tokenId;
+
+    /**
+     * jti claim, set on refresh tokens
+     */
+    String jwtId;
+
+    String subject;
+
+    List<String> authorities;
+
+    /**
+     * REFRESH, MIDDLEWARE, ACCESS, or null for access and session tokens issued before the claim
+     */
+    String tokenType;
+
+    /**
+     * sid claim of access tokens: jti of the refresh token they were issued with
+     */
+    String sessionId;
+
+    List<String> scopes;
+
+    Instant issuedAt;
+
+    Instant expiresAt;
+
+    Map<String, Object> claims;
+
+    public boolean isExpired() {
+        return expiresAt != null && !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,15 @@
+package Ecom.Service;
+
+import Ecom.DTO.CheckoutRequest;
+import Ecom.DTO.CheckoutResponse;
+import Ecom.Exception.OrdersException;
+
+public interface CheckoutService {
+
+	/**
+	 * Places the order for the user's cart, captures payment and attaches shipping
+	 * details in a single transaction.
+	 */
+	public CheckoutResponse checkout(Integer userId, CheckoutRequest request) throws OrdersException;
+
+}
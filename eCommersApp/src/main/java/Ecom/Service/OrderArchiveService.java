@@ -0,0 +1,22 @@
+package Ecom.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import Ecom.Model.Orders;
+
+public interface OrderArchiveService {
+
+	/**
+	 * Moves up to {@code batchSize} orders placed before {@code cutoff}, together with
+	 * their items, payment and shipping rows, into the archive tables.
+	 * Returns the number of orders moved.
+	 */
+	public int archiveBatch(LocalDateTime cutoff, int batchSize);
+
+	public Optional<Orders> findArchivedOrder(Integer orderId);
+
+	public List<Orders> findArchivedOrdersByUser(Integer userId);
+
+}
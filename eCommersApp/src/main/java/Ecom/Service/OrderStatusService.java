@@ -0,0 +1,18 @@
+package Ecom.Service;
+
+import Ecom.DTO.BulkStatusTransitionRequest;
+import Ecom.DTO.BulkStatusTransitionResponse;
+import Ecom.Enum.OrderStatus;
+import Ecom.Exception.OrdersException;
+import Ecom.Model.Orders;
+
+public interface OrderStatusService {
+
+	/**
+	 * Validates and applies a transition on a loaded order. The caller saves the order.
+	 */
+	public void transition(Orders order, OrderStatus target) throws OrdersException;
+
+	public BulkStatusTransitionResponse bulkTransition(BulkStatusTransitionRequest request) throws OrdersException;
+
+}
@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import Ecom.DTO.OrderSearchCriteria;
+import Ecom.DTO.OrderSearchResponse;
 import Ecom.Exception.OrdersException;
 import Ecom.Model.Orders;
 import Ecom.ModelDTO.OrdersDTO;
@@ -16,14 +18,31 @@ public interface OrdersService {
 	
 	public Orders updateOrders(Integer ordersid,OrdersDTO orderDTo)throws OrdersException;
 	
+	/**
+	 * Falls back to the archive when the order has been archived
+	 */
 	public Orders getOrdersDetails(Integer orderid)throws OrdersException;
 	
+	/**
+	 * Live and archived orders of the user
+	 */
 	public List<Orders> getAllUserOrder(Integer userId)throws OrdersException;
 	
+	/**
+	 * Live orders only: orders moved to the archive are not listed
+	 */
 	public List<Orders> viewAllOrders()throws OrdersException;
 	
+	/**
+	 * Live orders placed on or after {@code date}; archived orders are not listed
+	 */
 	public List<Orders> viewAllOrderByDate(Date date)throws OrdersException;
 	
 	public void deleteOrders(Integer userId,Integer Orderid)throws OrdersException;
+	
+	/**
+	 * Searches live orders only; archived orders are reached by id or through the user's history
+	 */
+	public OrderSearchResponse searchOrders(OrderSearchCriteria criteria)throws OrdersException;
 
 }
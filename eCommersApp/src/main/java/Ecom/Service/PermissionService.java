@@ -0,0 +1,22 @@
+package Ecom.Service;
+
+import Ecom.Entity.UserPermission;
+import Ecom.Entity.UserPermission.PermissionType;
+import Ecom.Exception.UserException;
+import Ecom.SecurityConfig.PermissionSet;
+
+public interface PermissionService {
+
+	/**
+	 * Active permissions of a user, served from the per-user bitset cache
+	 */
+	public PermissionSet getPermissions(Long userId);
+
+	public boolean hasPermission(Long userId, String resourceName, PermissionType permissionType);
+
+	public UserPermission grantPermission(Long userId, String resourceName, PermissionType permissionType,
+			String notes) throws UserException;
+
+	public void revokePermission(Long permissionId) throws UserException;
+
+}
@@ -0,0 +1,31 @@
+package Ecom.Service;
+
+import Ecom.DTO.RefreshRotation;
+import Ecom.Exception.RefreshTokenException;
+
+public interface RefreshTokenService {
+
+	/**
+	 * Issues a refresh token and records it in the registry
+	 */
+	public String issue(String username);
+
+	/**
+	 * Consumes a refresh token and issues its replacement.
+	 * Presenting an already used or revoked token revokes every live token of that user.
+	 */
+	public RefreshRotation rotate(String refreshToken) throws RefreshTokenException;
+
+	/**
+	 * Revokes a refresh token (logout); unknown or invalid tokens are ignored
+	 */
+	public void revoke(String refreshToken);
+
+	public boolean isRevoked(String tokenId);
+
+	/**
+	 * Deletes expired registry rows and rebuilds the in-memory denylist filter
+	 */
+	public int purgeExpired();
+
+}
@@ -0,0 +1,20 @@
+package Ecom.Service;
+
+import java.util.Collection;
+
+import Ecom.DTO.TokenIntrospection;
+
+public interface TokenIntrospectionService {
+
+	/**
+	 * Describes a token; malformed, expired or revoked tokens come back inactive.
+	 * When {@code requiredScopes} is not empty the answer also says whether all of them are granted.
+	 */
+	public TokenIntrospection introspect(String token, Collection<String> requiredScopes);
+
+	/**
+	 * True if the token is active and grants every one of the scopes
+	 */
+	public boolean hasScopes(String token, Collection<String> requiredScopes);
+
+}
@@ -1,9 +1,13 @@
 package Ecom.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
+import Ecom.DTO.CustomerSearchCriteria;
+import Ecom.DTO.CustomerSearchResponse;
+import Ecom.DTO.CustomerSummaryDTO;
 import Ecom.Exception.UserException;
 import Ecom.Model.User;
 import Ecom.ModelDTO.AdminDTO;
@@ -28,5 +32,8 @@ public interface UserService {
 
 	public User getUserDetails(Integer userId)throws UserException;
 
-	public List<User> getAllUserDetails() throws UserException;
+	public CustomerSearchResponse searchCustomers(CustomerSearchCriteria criteria) throws UserException;
+
+	public void exportCustomers(CustomerSearchCriteria criteria, Consumer<List<CustomerSummaryDTO>> batchConsumer)
+			throws UserException;
 }
@@ -26,12 +26,9 @@ public class AddressServiceImpl implements AddressService {
     public Address addAddressToUser(Integer userId, Address address) throws AddressException {
         User existingUser = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User Not Fouund"));
 
-        Address saveaAddress = addressRepository.save(address);
-        saveaAddress.setUser(existingUser);
-
-        existingUser.getAddress().add(saveaAddress);
-        userRepository.save(existingUser);
-        return saveaAddress;
+        // the address owns the foreign key; no need to load the user's address list
+        address.setUser(existingUser);
+        return addressRepository.save(address);
     }
 
     @Override
@@ -62,12 +59,7 @@ public class AddressServiceImpl implements AddressService {
 
     @Override
     public List<Address> getAllUserAddress(Integer userId) throws AddressException {
-        List<Address> userAddressList = addressRepository.getUserAddressList(userId);
-        if (userAddressList.isEmpty()) {
-            System.out.println("empty");
-            throw new AddressException("User does not have any address");
-        }
-        return userAddressList;
+        return addressRepository.getUserAddressList(userId);
     }
 
 
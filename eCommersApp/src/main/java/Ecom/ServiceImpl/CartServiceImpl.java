@@ -1,10 +1,13 @@
 package Ecom.ServiceImpl;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import Ecom.Exception.CartException;
 import Ecom.Exception.ProductException;
 import Ecom.Exception.UserException;
@@ -22,6 +25,8 @@ import Ecom.Service.CartService;
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
 
+	private static final Logger log = LoggerFactory.getLogger(CartServiceImpl.class);
+
 	private final ProductRepository productRepository;
 
 	private final CartRepository cartRepository;
@@ -30,6 +35,7 @@ public class CartServiceImpl implements CartService {
 
 	private final UserRepository userRepository;
 
+	@Transactional
 	public Cart addProductToCart(Integer userId, Integer productId) throws CartException {
 
 		Product existingProduct = productRepository.findById(productId)
@@ -39,14 +45,12 @@ public class CartServiceImpl implements CartService {
 				.orElseThrow(() -> new UserException("User Not Found In Database"));
 
 		if (existingUser.getCart() != null) {
-			System.out.println("Cart is alredy alloted...");
 			Cart userCart = existingUser.getCart();
+			log.debug("Adding product {} to cart {} of user {}", productId, userCart.getCartId(), userId);
 
 			List<CartItem> cartItems = userCart.getCartItems();
 			if (cartItems != null) {
-				System.out.println("cart item imside loop...");
 				for (int i = 0; i < cartItems.size(); i++) {
-					System.out.println("inside loop");
 					if (cartItems.get(i).getProduct().getProductId() == productId&&
 							cartItems.get(i).getCart().getCartId()==userCart.getCartId()) {
 						throw new CartException("Product Already in the Cart,Please Increase the Quantity");
@@ -61,7 +65,7 @@ public class CartServiceImpl implements CartService {
 
 			userCart.setTotalAmount(calculateCartTotal(cartItems));
 			cartRepository.save(userCart);
-			return userCart;
+			return initializeForResponse(userCart);
 
 		} else {
 
@@ -81,8 +85,27 @@ public class CartServiceImpl implements CartService {
 			newCart.setTotalAmount(calculateCartTotal(newCart.getCartItems()));
 			userRepository.save(existingUser);
 
-			return existingUser.getCart();
+			return initializeForResponse(existingUser.getCart());
+		}
+	}
+
+	/**
+	 * Cart responses embed every product with its reviews; load those while the transaction
+	 * is open, batched across the cart's products (see Product.reviews)
+	 */
+	private static Cart initializeForResponse(Cart cart) {
+		cart.getCartItems().forEach(item -> Hibernate.initialize(item.getProduct().getReviews()));
+		return cart;
+	}
+
+	/**
+	 * The user's cart with its items and their products in one query
+	 */
+	private Cart findUserCart(Integer userId) throws CartException {
+		if (!userRepository.existsById(userId)) {
+			throw new UserException("User Not Found in Database");
 		}
+		return cartRepository.findWithItemsByUserUserId(userId).orElseThrow(() -> new CartException("Cart Not Found"));
 	}
 
 	private double calculateCartTotal(List<CartItem> cartItems) {
@@ -96,15 +119,9 @@ public class CartServiceImpl implements CartService {
 	}
 
 	@Override
+	@Transactional
 	public Cart increaseProductQuantity(Integer userId, Integer productId) throws CartException {
-		User existingUser = userRepository.findById(userId)
-				.orElseThrow(() -> new UserException("User Not Found in Database"));
-
-		if (existingUser.getCart() == null) {
-			throw new CartException("Cart Not Found");
-		}
-
-		Cart userCart = existingUser.getCart();
+		Cart userCart = findUserCart(userId);
 		List<CartItem> cartItems = userCart.getCartItems();
 
 		CartItem cartItemToUpdate = cartItems.stream()
@@ -118,18 +135,12 @@ public class CartServiceImpl implements CartService {
 		userCart.setTotalAmount(calculateCartTotal(cartItems));
 		cartRepository.save(userCart);
 
-		return userCart;
+		return initializeForResponse(userCart);
 	}
 	@Override
+	@Transactional
 	public Cart decreaseProductQuantity(Integer userId, Integer productId) throws CartException {
-		User existingUser = userRepository.findById(userId)
-				.orElseThrow(() -> new UserException("User Not Found in Database"));
-
-		if (existingUser.getCart() == null) {
-			throw new CartException("Cart Not Found");
-		}
-
-		Cart userCart = existingUser.getCart();
+		Cart userCart = findUserCart(userId);
 		List<CartItem> cartItems = userCart.getCartItems();
 		CartItem cartItemToUpdate = cartItems.stream()
 				.filter(item -> item.getProduct().getProductId().equals(productId)
@@ -153,9 +164,10 @@ public class CartServiceImpl implements CartService {
 			userCart.setTotalAmount(calculateCartTotal(cartItems));
 			cartRepository.save(userCart);
 		}
-		return userCart;
+		return initializeForResponse(userCart);
 	}
 	@Override
+	@Transactional
 	public void removeProductFromCart(Integer cartId, Integer productId) throws CartException {
 		Cart existingCart = cartRepository.findById(cartId).orElseThrow(() -> new CartException("Cart Not Found"));
 
@@ -168,25 +180,14 @@ public class CartServiceImpl implements CartService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Cart getAllCartProduct(Integer cartId) throws CartException {
-		Cart existingCart = cartRepository.findById(cartId).orElseThrow(() -> new CartException("Cart Not Found"));
-
-		List<CartItem> cartItems = existingCart.getCartItems();
-		List<Product> products = new ArrayList<>();
-
-		for (CartItem cartItem : cartItems) {
-			if (cartItem.getCart().getCartId() == cartId) {
-				Product product = cartItem.getProduct();
-				products.add(product);
-			}
-		}
-		if(products.isEmpty()){
-			throw new CartException("Cart is Empty...");
-		}
-		return existingCart;
+		Cart existingCart = cartRepository.findWithItemsByCartId(cartId).orElseThrow(() -> new CartException("Cart Not Found"));
+		return initializeForResponse(existingCart);
 	}
 
 	@Override
+	@Transactional
 	public void removeAllProductFromCart(Integer cartId) throws CartException {
 		Cart existingCart = cartRepository.findById(cartId).orElseThrow(() -> new CartException("Cart Not Found"));
 
@@ -0,0 +1,114 @@
+package Ecom.ServiceImpl;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import Ecom.DTO.CheckoutRequest;
+import Ecom.DTO.CheckoutResponse;
+import Ecom.Enum.OrderStatus;
+import Ecom.Enum.PaymentMethod;
+import Ecom.Enum.PaymentStatus;
+import Ecom.Exception.OrdersException;
+import Ecom.Exception.ShippingException;
+import Ecom.Exception.UserException;
+import Ecom.Model.Cart;
+import Ecom.Model.CartItem;
+import Ecom.Model.Orders;
+import Ecom.Model.Payment;
+import Ecom.Model.Shipper;
+import Ecom.Model.ShippingDetails;
+import Ecom.Model.User;
+import Ecom.Repository.CartItemRepository;
+import Ecom.Repository.OrderRepository;
+import Ecom.Repository.PaymentRepository;
+import Ecom.Repository.ShipperRepository;
+import Ecom.Repository.ShippingRepository;
+import Ecom.Repository.UserRepository;
+import Ecom.Service.CheckoutService;
+import Ecom.Service.OrderStatusService;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CheckoutServiceImpl implements CheckoutService {
+
+	private final UserRepository userRepository;
+
+	private final OrderRepository orderRepository;
+
+	private final PaymentRepository paymentRepository;
+
+	private final ShippingRepository shippingRepository;
+
+	private final ShipperRepository shipperRepository;
+
+	private final CartItemRepository cartItemRepository;
+
+	private final OrderStatusService orderStatusService;
+
+	@Override
+	@Transactional
+	public CheckoutResponse checkout(Integer userId, CheckoutRequest request) throws OrdersException {
+		User user = userRepository.findById(userId)
+				.orElseThrow(() -> new UserException("User Not Found In Database"));
+
+		Cart cart = user.getCart();
+		if (cart == null || cart.getCartItems().isEmpty() || cart.getTotalAmount() == null
+				|| cart.getTotalAmount() == 0) {
+			throw new OrdersException("Add item To the cart first.......");
+		}
+
+		Shipper shipper = shipperRepository.findById(request.getShipperId())
+				.orElseThrow(() -> new ShippingException("Shipper not found"));
+
+		Orders order = new Orders();
+		order.setOrderDate(LocalDateTime.now());
+		order.setStatus(OrderStatus.PENDING);
+		order.setUser(user);
+		order.setTotalAmount(cart.getTotalAmount());
+		orderRepository.save(order);
+
+		for (CartItem cartItem : cart.getCartItems()) {
+			order.getOrderItem().add(OrdersServiceImpl.toOrderItem(cartItem, order.getOrderId()));
+		}
+
+		Payment payment = new Payment();
+		payment.setPaymentAmount(order.getTotalAmount());
+		payment.setPaymentDate(LocalDateTime.now());
+		payment.setPaymentMethod(request.getPaymentMethod() != null ? request.getPaymentMethod() : PaymentMethod.UPI);
+		payment.setPaymentStatus(PaymentStatus.SUCCESSFUL);
+		payment.setUser(user);
+		payment.setOrder(order);
+		paymentRepository.save(payment);
+		order.setPayment(payment);
+		orderStatusService.transition(order, OrderStatus.SHIPPED);
+
+		ShippingDetails shipping = new ShippingDetails();
+		shipping.setAddress(request.getAddress());
+		shipping.setCity(request.getCity());
+		shipping.setState(request.getState());
+		shipping.setCountry(request.getCountry());
+		shipping.setPostalCode(request.getPostalCode());
+		shipping.setShipper(shipper);
+		shipping.setOrders(order);
+		shippingRepository.save(shipping);
+		order.setShippingDetails(shipping);
+
+		cartItemRepository.removeAllProductFromCart(cart.getCartId());
+		cart.getCartItems().clear();
+		cart.setTotalAmount(0.0);
+
+		// order, cart and user are managed, the commit flushes the remaining changes
+		return CheckoutResponse.builder()
+				.orderId(order.getOrderId())
+				.status(order.getStatus())
+				.orderDate(order.getOrderDate())
+				.totalAmount(order.getTotalAmount())
+				.paymentId(payment.getPaymentId())
+				.paymentStatus(payment.getPaymentStatus())
+				.shippingId(shipping.getShippingId())
+				.build();
+	}
+}
@@ -1,45 +1,89 @@
 package Ecom.ServiceImpl;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Ecom.DTO.UserCredentials;
+import Ecom.Enum.UserAccountStatus;
 import Ecom.Repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+/**
+ * Loads login credentials for HTTP Basic and /ecom/auth/login.
+ * Reads only email, password hash, role and status (no User entity graph) and keeps them
+ * in a bounded cache that expires after security.user-cache.ttl.
+ * UserServiceImpl evicts an entry when the password changes or the account is deactivated.
+ * Hit rates: /actuator/metrics/cache.gets?tag=cache:userCredentials
+ */
 @Service
 public class CustomerUserDetailsService implements UserDetailsService {
 
+	public static final String CACHE_NAME = "userCredentials";
+
 	private final UserRepository userRepository;
 
-	public CustomerUserDetailsService(UserRepository userRepository) {
+	private final Cache<String, UserCredentials> credentialsCache;
+
+	public CustomerUserDetailsService(UserRepository userRepository, MeterRegistry meterRegistry,
+			@Value("${security.user-cache.max-size:10000}") long maxSize,
+			@Value("${security.user-cache.ttl:PT5M}") Duration ttl) {
 		this.userRepository = userRepository;
+		this.credentialsCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, credentialsCache, CACHE_NAME);
 	}
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-		Optional<Ecom.Model.User> opt = userRepository.findByEmail(username);
-		 
-		if (opt.isPresent()) {
-			Ecom.Model.User customer = opt.get();
-
-			List<GrantedAuthority> authorities = new ArrayList<>();
-			
-			SimpleGrantedAuthority sga = new SimpleGrantedAuthority(customer.getRole().toString());
-			authorities.add(sga);
-		
-			return new org.springframework.security.core.userdetails.User(customer.getEmail(), customer.getPassword(),
-					authorities);
-		} else
+		// unknown emails are not cached, so a new signup can log in immediately
+		UserCredentials customer = credentialsCache.get(username,
+				email -> userRepository.findCredentialsByEmail(email).orElse(null));
+
+		if (customer == null)
 			throw new BadCredentialsException("User Details not found with this username: " + username);
+
+		// a fresh UserDetails per call: the provider erases its password after authentication
+		return new org.springframework.security.core.userdetails.User(customer.getEmail(), customer.getPassword(),
+				customer.getUserAccountStatus() != UserAccountStatus.DEACTIVETE, true, true, true,
+				List.of(new SimpleGrantedAuthority(customer.getRole().toString())));
+	}
+
+	/**
+	 * Drop the cached credentials of one user, after a password or status change.
+	 * Called inside a transaction, the entry is dropped again after commit so a login
+	 * racing the change cannot cache the old credentials.
+	 */
+	public void evict(String email) {
+		if (email == null) {
+			return;
+		}
+		credentialsCache.invalidate(email);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					credentialsCache.invalidate(email);
+				}
+			});
+		}
 	}
 
 }
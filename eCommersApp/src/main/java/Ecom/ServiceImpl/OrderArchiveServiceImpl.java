@@ -0,0 +1,227 @@
+package Ecom.ServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import Ecom.Model.ArchivedOrder;
+import Ecom.Model.ArchivedOrderItem;
+import Ecom.Model.ArchivedPayment;
+import Ecom.Model.ArchivedShippingDetails;
+import Ecom.Model.OrderItem;
+import Ecom.Model.Orders;
+import Ecom.Model.Payment;
+import Ecom.Model.ShippingDetails;
+import Ecom.Model.User;
+import Ecom.Repository.ArchivedOrderItemRepository;
+import Ecom.Repository.ArchivedOrderRepository;
+import Ecom.Repository.ArchivedPaymentRepository;
+import Ecom.Repository.ArchivedShippingRepository;
+import Ecom.Repository.OrderRepository;
+import Ecom.Repository.PaymentRepository;
+import Ecom.Repository.ShippingRepository;
+import Ecom.Repository.UserRepository;
+import Ecom.Service.OrderArchiveService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+	private final OrderRepository orderRepository;
+
+	private final PaymentRepository paymentRepository;
+
+	private final ShippingRepository shippingRepository;
+
+	private final UserRepository userRepository;
+
+	private final ArchivedOrderRepository archivedOrderRepository;
+
+	private final ArchivedOrderItemRepository archivedOrderItemRepository;
+
+	private final ArchivedPaymentRepository archivedPaymentRepository;
+
+	private final ArchivedShippingRepository archivedShippingRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Archive rows carry the ids of the rows they replace, so they are persisted rather than
+	 * saved: save() would merge, which selects every row first to tell insert from update.
+	 * With hibernate.jdbc.batch_size set (prod), the inserts go out as JDBC batches.
+	 * The batch's order rows stay locked until commit, see OrderRepository#findArchivableIds.
+	 */
+	@Override
+	@Transactional
+	public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+		List<Integer> orderIds = orderRepository.findArchivableIds(cutoff, batchSize);
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		// one query for the batch: items, payment and shipping are joined, not loaded per order
+		List<Orders> batch = orderRepository.findWithDetailsByOrderIdIn(orderIds);
+		LocalDateTime now = LocalDateTime.now();
+
+		for (Orders order : batch) {
+			entityManager.persist(toArchive(order, now));
+			for (OrderItem item : order.getOrderItem()) {
+				entityManager.persist(toArchive(item, order.getOrderId()));
+			}
+
+			Payment payment = order.getPayment();
+			ShippingDetails shipping = order.getShippingDetails();
+			// break the Orders <-> Payment/Shipping foreign key cycle before deleting
+			order.setPayment(null);
+			order.setShippingDetails(null);
+			if (payment != null) {
+				entityManager.persist(toArchive(payment, order));
+				paymentRepository.delete(payment);
+			}
+			if (shipping != null) {
+				entityManager.persist(toArchive(shipping, order.getOrderId()));
+				shippingRepository.delete(shipping);
+			}
+			orderRepository.delete(order);
+		}
+		return batch.size();
+	}
+
+	@Override
+	public Optional<Orders> findArchivedOrder(Integer orderId) {
+		return archivedOrderRepository.findById(orderId)
+				.map(archived -> restore(List.of(archived)).get(0));
+	}
+
+	@Override
+	public List<Orders> findArchivedOrdersByUser(Integer userId) {
+		List<ArchivedOrder> archived = archivedOrderRepository.getAllOrderByUserId(userId);
+		if (archived.isEmpty()) {
+			return List.of();
+		}
+		return restore(archived);
+	}
+
+	/**
+	 * Rebuilds detached Orders graphs from archive rows, loading items, payments
+	 * and shipping for the whole list with one query each.
+	 */
+	private List<Orders> restore(List<ArchivedOrder> archived) {
+		List<Integer> orderIds = archived.stream().map(ArchivedOrder::getOrderId).toList();
+
+		Map<Integer, List<ArchivedOrderItem>> items = archivedOrderItemRepository.findByOrderIdIn(orderIds).stream()
+				.collect(Collectors.groupingBy(ArchivedOrderItem::getOrderId));
+		Map<Integer, ArchivedPayment> payments = archivedPaymentRepository.findByOrderIdIn(orderIds).stream()
+				.collect(Collectors.toMap(ArchivedPayment::getOrderId, Function.identity(), (a, b) -> a));
+		Map<Integer, ArchivedShippingDetails> shipping = archivedShippingRepository.findByOrderIdIn(orderIds).stream()
+				.collect(Collectors.toMap(ArchivedShippingDetails::getOrderId, Function.identity(), (a, b) -> a));
+		Map<Integer, User> users = userRepository
+				.findAllById(archived.stream().map(ArchivedOrder::getUserId).distinct().toList()).stream()
+				.collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+		List<Orders> result = new ArrayList<>();
+		for (ArchivedOrder source : archived) {
+			Orders order = new Orders();
+			order.setOrderId(source.getOrderId());
+			order.setStatus(source.getStatus());
+			order.setOrderDate(source.getOrderDate());
+			order.setTotalAmount(source.getTotalAmount());
+			order.setUser(users.get(source.getUserId()));
+
+			for (ArchivedOrderItem archivedItem : items.getOrDefault(source.getOrderId(), List.of())) {
+				OrderItem item = new OrderItem();
+				item.setOrderItemId(archivedItem.getOrderItemId());
+				item.setOrderId(archivedItem.getOrderId());
+				item.setProductId(archivedItem.getProductId());
+				item.setQuantity(archivedItem.getQuantity());
+				item.setProductName(archivedItem.getProductName());
+				item.setUnitPrice(archivedItem.getUnitPrice());
+				item.setLineTotal(archivedItem.getLineTotal());
+				order.getOrderItem().add(item);
+			}
+
+			ArchivedPayment archivedPayment = payments.get(source.getOrderId());
+			if (archivedPayment != null) {
+				Payment payment = new Payment();
+				payment.setPaymentId(archivedPayment.getPaymentId());
+				payment.setPaymentDate(archivedPayment.getPaymentDate());
+				payment.setPaymentAmount(archivedPayment.getPaymentAmount());
+				payment.setPaymentMethod(archivedPayment.getPaymentMethod());
+				payment.setPaymentStatus(archivedPayment.getPaymentStatus());
+				order.setPayment(payment);
+			}
+
+			ArchivedShippingDetails archivedShipping = shipping.get(source.getOrderId());
+			if (archivedShipping != null) {
+				ShippingDetails details = new ShippingDetails();
+				details.setShippingId(archivedShipping.getShippingId());
+				details.setAddress(archivedShipping.getAddress());
+				details.setCity(archivedShipping.getCity());
+				details.setState(archivedShipping.getState());
+				details.setCountry(archivedShipping.getCountry());
+				details.setPostalCode(archivedShipping.getPostalCode());
+				order.setShippingDetails(details);
+			}
+			result.add(order);
+		}
+		return result;
+	}
+
+	private ArchivedOrder toArchive(Orders order, LocalDateTime archivedAt) {
+		ArchivedOrder archived = new ArchivedOrder();
+		archived.setOrderId(order.getOrderId());
+		archived.setStatus(order.getStatus());
+		archived.setOrderDate(order.getOrderDate());
+		archived.setUserId(order.getUser() != null ? order.getUser().getUserId() : null);
+		archived.setTotalAmount(order.getTotalAmount());
+		archived.setArchivedAt(archivedAt);
+		return archived;
+	}
+
+	private ArchivedOrderItem toArchive(OrderItem item, Integer orderId) {
+		ArchivedOrderItem archived = new ArchivedOrderItem();
+		archived.setOrderItemId(item.getOrderItemId());
+		archived.setOrderId(orderId);
+		archived.setProductId(item.getProductId());
+		archived.setQuantity(item.getQuantity());
+		archived.setProductName(item.getProductName());
+		archived.setUnitPrice(item.getUnitPrice());
+		archived.setLineTotal(item.getLineTotal());
+		return archived;
+	}
+
+	private ArchivedPayment toArchive(Payment payment, Orders order) {
+		ArchivedPayment archived = new ArchivedPayment();
+		archived.setPaymentId(payment.getPaymentId());
+		archived.setOrderId(order.getOrderId());
+		archived.setUserId(order.getUser() != null ? order.getUser().getUserId() : null);
+		archived.setPaymentDate(payment.getPaymentDate());
+		archived.setPaymentAmount(payment.getPaymentAmount());
+		archived.setPaymentMethod(payment.getPaymentMethod());
+		archived.setPaymentStatus(payment.getPaymentStatus());
+		return archived;
+	}
+
+	private ArchivedShippingDetails toArchive(ShippingDetails shipping, Integer orderId) {
+		ArchivedShippingDetails archived = new ArchivedShippingDetails();
+		archived.setShippingId(shipping.getShippingId());
+		archived.setOrderId(orderId);
+		archived.setShipperId(shipping.getShipper() != null ? shipping.getShipper().getShipperId() : null);
+		archived.setAddress(shipping.getAddress());
+		archived.setCity(shipping.getCity());
+		archived.setState(shipping.getState());
+		archived.setCountry(shipping.getCountry());
+		archived.setPostalCode(shipping.getPostalCode());
+		return archived;
+	}
+}
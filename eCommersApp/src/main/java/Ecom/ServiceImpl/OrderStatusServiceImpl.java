@@ -0,0 +1,113 @@
+package Ecom.ServiceImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import Ecom.DTO.BulkStatusTransitionRequest;
+import Ecom.DTO.BulkStatusTransitionResponse;
+import Ecom.Enum.OrderStatus;
+import Ecom.Event.OrderStatusChangedEvent;
+import Ecom.Exception.OrdersException;
+import Ecom.Model.Orders;
+import Ecom.Repository.OrderRepository;
+import Ecom.Service.OrderStatusService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OrderStatusServiceImpl implements OrderStatusService {
+
+	/**
+	 * Keeps IN lists at a size every database plans efficiently.
+	 */
+	private static final int CHUNK_SIZE = 1000;
+
+	private final OrderRepository orderRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Joins the caller's transaction. The new state is flushed before the event is published,
+	 * and listeners (OrderStatusChangedListener) only receive it once that transaction commits.
+	 */
+	@Override
+	@Transactional
+	public void transition(Orders order, OrderStatus target) throws OrdersException {
+		OrderStatus current = order.getStatus();
+		if (current == null || !current.canTransitionTo(target)) {
+			throw new OrdersException("Order " + order.getOrderId() + " cannot move from " + current + " to " + target);
+		}
+		order.setStatus(target);
+		orderRepository.saveAndFlush(order);
+		eventPublisher.publishEvent(new OrderStatusChangedEvent(List.of(order.getOrderId()), current, target));
+	}
+
+	@Override
+	@Transactional
+	public BulkStatusTransitionResponse bulkTransition(BulkStatusTransitionRequest request) throws OrdersException {
+		OrderStatus from = request.getFrom();
+		OrderStatus to = request.getTo();
+		if (!from.canTransitionTo(to)) {
+			throw new OrdersException("Transition " + from + " -> " + to + " is not allowed");
+		}
+
+		List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(request.getOrderIds()));
+		List<Integer> transitioned = new ArrayList<>();
+		Map<Integer, String> rejected = new LinkedHashMap<>();
+
+		for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+			List<Integer> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+
+			Map<Integer, OrderStatus> current = new HashMap<>();
+			for (Object[] row : orderRepository.findStatusesByIds(chunk)) {
+				current.put((Integer) row[0], (OrderStatus) row[1]);
+			}
+
+			List<Integer> candidates = new ArrayList<>();
+			for (Integer id : chunk) {
+				OrderStatus status = current.get(id);
+				if (status == null) {
+					rejected.put(id, "Order not found");
+				} else if (status != from) {
+					rejected.put(id, "Order is " + status + ", expected " + from);
+				} else {
+					candidates.add(id);
+				}
+			}
+			if (candidates.isEmpty()) {
+				continue;
+			}
+
+			// the status guard in the UPDATE makes this safe against concurrent changes
+			int updated = orderRepository.updateStatus(candidates, from, to);
+			List<Integer> moved = candidates;
+			if (updated != candidates.size()) {
+				moved = orderRepository.findIdsByIdsAndStatus(candidates, to);
+				for (Integer id : candidates) {
+					if (!moved.contains(id)) {
+						rejected.put(id, "Order changed state concurrently");
+					}
+				}
+			}
+			if (!moved.isEmpty()) {
+				transitioned.addAll(moved);
+				eventPublisher.publishEvent(new OrderStatusChangedEvent(moved, from, to));
+			}
+		}
+
+		return BulkStatusTransitionResponse.builder()
+				.from(from)
+				.to(to)
+				.transitioned(transitioned)
+				.rejected(rejected)
+				.build();
+	}
+}
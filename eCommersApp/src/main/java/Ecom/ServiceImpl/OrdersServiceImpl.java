@@ -1,13 +1,22 @@
 package Ecom.ServiceImpl;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import Ecom.Config.ReplicaRead;
+import Ecom.DTO.OrderSearchCriteria;
+import Ecom.DTO.OrderSearchResponse;
+import Ecom.DTO.OrderSummaryDTO;
 import Ecom.Enum.OrderStatus;
 import Ecom.Exception.OrdersException;
 import Ecom.Exception.UserException;
@@ -15,6 +24,7 @@ import Ecom.Model.Cart;
 import Ecom.Model.CartItem;
 import Ecom.Model.OrderItem;
 import Ecom.Model.Orders;
+import Ecom.Model.Product;
 import Ecom.Model.User;
 import Ecom.ModelDTO.OrdersDTO;
 import Ecom.Repository.CartItemRepository;
@@ -23,13 +33,20 @@ import Ecom.Repository.OrderItemRepository;
 import Ecom.Repository.OrderRepository;
 import Ecom.Repository.ProductRepository;
 import Ecom.Repository.UserRepository;
+import Ecom.Service.OrderArchiveService;
+import Ecom.Service.OrderStatusService;
 import Ecom.Service.OrdersService;
-import jakarta.transaction.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class OrdersServiceImpl implements OrdersService {
 
+    private static final Logger log = LoggerFactory.getLogger(OrdersServiceImpl.class);
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private static final int SEARCH_COUNT_CAP = 10000;
+
     private final OrderRepository orderRepository;
 
     private final UserRepository userRepository;
@@ -40,7 +57,12 @@ public class OrdersServiceImpl implements OrdersService {
 
     private final CartRepository cartRepository;
 
+    private final OrderArchiveService orderArchiveService;
+
+    private final OrderStatusService orderStatusService;
+
     @Override
+    @Transactional
     public OrdersDTO placeOrder(Integer userId) throws OrdersException {
         User existingUser = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException("User Not Found In Database"));
@@ -56,7 +78,6 @@ public class OrdersServiceImpl implements OrdersService {
         newOrder.setOrderDate(LocalDateTime.now());
         newOrder.setStatus(OrderStatus.PENDING);
 
-        existingUser.getOrders().add(newOrder);
         newOrder.setUser(existingUser);
         userRepository.save(existingUser);
         orderRepository.save(newOrder);
@@ -64,18 +85,12 @@ public class OrdersServiceImpl implements OrdersService {
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (CartItem itemDTO : usercart.getCartItems()) {
-            System.out.println("inside the loop");
             if (itemDTO.getCart().getCartId() == cartId) {
 
-                OrderItem orderItem = new OrderItem();// creating New orderItem;
-
-                orderItem.setQuantity(itemDTO.getQuantity());
-                orderItem.setProduct(itemDTO.getProduct());
-                orderItem.setOrderId(newOrder.getOrderId());
-                orderItems.add(orderItem);
-                System.out.println("inside the loop and if");
+                orderItems.add(toOrderItem(itemDTO, newOrder.getOrderId()));
             }
         }
+        log.debug("Order {} of user {}: {} lines from cart {}", newOrder.getOrderId(), userId, orderItems.size(), cartId);
 
         newOrder.setOrderItem(orderItems);
         newOrder.setTotalAmount(usercart.getTotalAmount());
@@ -96,48 +111,63 @@ public class OrdersServiceImpl implements OrdersService {
 
     }
 
-    @Transactional
+    /**
+     * Creates the order line for a cart item, freezing name and price so later
+     * catalog edits don't rewrite old orders.
+     */
+    static OrderItem toOrderItem(CartItem cartItem, Integer orderId) {
+        Product product = cartItem.getProduct();
+
+        OrderItem orderItem = new OrderItem();
+        orderItem.setQuantity(cartItem.getQuantity());
+        orderItem.setProduct(product);
+        orderItem.setProductId(product.getProductId());
+        orderItem.setOrderId(orderId);
+        orderItem.setProductName(product.getName());
+        orderItem.setUnitPrice(product.getPrice());
+        orderItem.setLineTotal(product.getPrice() * cartItem.getQuantity());
+        return orderItem;
+    }
+
+    // primary, not @ReplicaRead: the order page is opened right after checkout
+    @Override
+    @Transactional(readOnly = true)
     public Orders getOrdersDetails(Integer orderId) throws OrdersException {
 
-        Orders order = orderRepository.findById(orderId)
+        Orders order = orderRepository.findWithDetailsByOrderId(orderId)
+                .or(() -> orderArchiveService.findArchivedOrder(orderId))
                 .orElseThrow(() -> new OrdersException("Order not found in the database."));
+        initializeForResponse(List.of(order));
         return order;
     }
 
     @Override
+    @ReplicaRead
     public List<Orders> getAllUserOrder(Integer userId) throws OrdersException {
         try {
-            List<Orders> orders = orderRepository.getAllOrderByUserId(userId);
-            if (orders.isEmpty()) {
-                throw new OrdersException("No orders found for the user in the database.");
-            }
-            return orders;
+            List<Orders> orders = new ArrayList<>(orderRepository.getAllOrderByUserId(userId));
+            orders.addAll(orderArchiveService.findArchivedOrdersByUser(userId));
+            return initializeForResponse(orders);
         } catch (Exception e) {
-            throw new OrdersException("Failed to fetch orders for the user: " + e.getMessage());
+            throw new OrdersException("Failed to fetch orders for the user: " + e.getMessage(), e);
         }
     }
 
     @Override
+    @ReplicaRead
     public List<Orders> viewAllOrders() throws OrdersException {
 
         List<Orders> orders = orderRepository.findAll();
-
-        if (orders.isEmpty()) {
-            throw new OrdersException("No orders found in the database.");
-        }
-        return orders;
+        return initializeForResponse(orders);
     }
 
     @Override
+    @ReplicaRead
     public List<Orders> viewAllOrderByDate(Date date) throws OrdersException {
 
-        List<Orders> orders = orderRepository.findByOrderDateGreaterThanEqual(date);
-
-        if (orders.isEmpty()) {
-            throw new OrdersException("No orders found for the given date.");
-        }
-
-        return orders;
+        LocalDateTime from = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        List<Orders> orders = orderRepository.findByOrderDateGreaterThanEqual(from);
+        return initializeForResponse(orders);
 
     }
 
@@ -152,9 +182,80 @@ public class OrdersServiceImpl implements OrdersService {
     }
 
     @Override
+    @ReplicaRead
+    public OrderSearchResponse searchOrders(OrderSearchCriteria criteria) throws OrdersException {
+        if (criteria.getSize() < 1 || criteria.getSize() > MAX_SEARCH_PAGE_SIZE) {
+            throw new OrdersException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (criteria.getFrom() != null && criteria.getTo() != null && !criteria.getFrom().isBefore(criteria.getTo())) {
+            throw new OrdersException("'from' must be before 'to'");
+        }
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount() > criteria.getMaxAmount()) {
+            throw new OrdersException("'minAmount' must not exceed 'maxAmount'");
+        }
+
+        // pages are keyed on (order date, id), so the cursor order's date is the other half of the key
+        if (criteria.getCursor() != null) {
+            criteria.setCursorDate(orderRepository.findOrderDateById(criteria.getCursor())
+                    .orElseThrow(() -> new OrdersException("Search cursor no longer matches an order, start from the first page")));
+        }
+
+        // fetch one extra row to learn whether another page exists
+        List<OrderSummaryDTO> rows = orderRepository.searchOrders(criteria, criteria.getSize() + 1);
+        boolean hasMore = rows.size() > criteria.getSize();
+        if (hasMore) {
+            rows = rows.subList(0, criteria.getSize());
+        }
+
+        OrderSearchResponse.OrderSearchResponseBuilder response = OrderSearchResponse.builder()
+                .orders(rows)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? rows.get(rows.size() - 1).getOrderId() : null);
+
+        // the count only matters for the first page, later pages just follow the cursor
+        if (criteria.getCursor() == null) {
+            long count = orderRepository.countOrders(criteria, SEARCH_COUNT_CAP);
+            response.countEstimate(Math.min(count, SEARCH_COUNT_CAP)).countExact(count <= SEARCH_COUNT_CAP);
+        }
+        return response.build();
+    }
+
+    @Override
+    @Transactional
     public Orders updateOrders(Integer ordersid, OrdersDTO orderDTo) throws OrdersException {
+        Orders existingOrder = orderRepository.findWithDetailsByOrderId(ordersid)
+                .orElseThrow(() -> new OrdersException("Order not found in the database."));
+        if (orderDTo == null || orderDTo.getStatus() == null) {
+            throw new OrdersException("Order status is required");
+        }
+
+        OrderStatus target;
+        try {
+            target = OrderStatus.valueOf(orderDTo.getStatus().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new OrdersException("Unknown order status " + orderDTo.getStatus());
+        }
+        orderStatusService.transition(existingOrder, target);
+        orderRepository.save(existingOrder);
+        initializeForResponse(List.of(existingOrder));
+        return existingOrder;
+    }
 
-        return null;
+    /**
+     * Order responses embed the customer and the payer, each with their address list.
+     * Loads those lists while the transaction is open, batched across the orders (see User.address).
+     */
+    private static List<Orders> initializeForResponse(List<Orders> orders) {
+        for (Orders order : orders) {
+            if (order.getUser() != null) {
+                Hibernate.initialize(order.getUser().getAddress());
+            }
+            if (order.getPayment() != null && order.getPayment().getUser() != null) {
+                Hibernate.initialize(order.getPayment().getUser().getAddress());
+            }
+        }
+        return orders;
     }
 
 }
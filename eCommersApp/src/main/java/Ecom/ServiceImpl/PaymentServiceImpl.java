@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import Ecom.Enum.OrderStatus;
 import Ecom.Enum.PaymentMethod;
@@ -16,6 +17,7 @@ import Ecom.Model.User;
 import Ecom.Repository.OrderRepository;
 import Ecom.Repository.PaymentRepository;
 import Ecom.Repository.UserRepository;
+import Ecom.Service.OrderStatusService;
 import Ecom.Service.PaymentService;
 
 @Service
@@ -30,10 +32,15 @@ public class PaymentServiceImpl implements PaymentService {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderStatusService orderStatusService;
+
     @Override
+    @Transactional
     public Payment makePayment(Integer orderId, Integer userId) throws PaymentException {
 
-        User existingUser = userRepository.findById(userId)
+        // the response embeds the payer with their addresses
+        User existingUser = userRepository.findWithAddressByUserId(userId)
                 .orElseThrow(() -> new UserException("User not found in the database."));
 
         Orders order = orderRepository.findById(orderId)
@@ -52,17 +59,13 @@ public class PaymentServiceImpl implements PaymentService {
         payment.setOrder(order);
         paymentRepository.save(payment);
        
-        order.setStatus(OrderStatus.SHIPPED);
+        orderStatusService.transition(order, OrderStatus.SHIPPED);
 
         // Set the payment for the order
         order.setPayment(payment);
         // Save the changes to the Order entity, including the associated Payment
         orderRepository.save(order);
 
-        existingUser.getPayments().add(payment);
-        // Save the changes to the User entity, including the new payment association
-        userRepository.save(existingUser);
-        // Save the payment to the database
         return  payment;
     }
 }
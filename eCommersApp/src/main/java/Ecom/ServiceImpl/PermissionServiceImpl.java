@@ -0,0 +1,101 @@
+package Ecom.ServiceImpl;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Ecom.Entity.UserPermission;
+import Ecom.Entity.UserPermission.PermissionType;
+import Ecom.Enum.PermissionResource;
+import Ecom.Exception.UserException;
+import Ecom.Model.User;
+import Ecom.Repository.UserPermissionRepository;
+import Ecom.Repository.UserRepository;
+import Ecom.SecurityConfig.PermissionSet;
+import Ecom.Service.PermissionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Permission checks against a per-user {@link PermissionSet} cache.
+ * Grants and revokes go through this service and drop the user's entry, so the next
+ * check recompiles it from user_permissions. The TTL only bounds staleness for changes
+ * made outside this instance.
+ */
+@Service
+public class PermissionServiceImpl implements PermissionService {
+
+	public static final String CACHE_NAME = "userPermissions";
+
+	private final UserPermissionRepository permissionRepository;
+
+	private final UserRepository userRepository;
+
+	private final Cache<Long, PermissionSet> permissionCache;
+
+	public PermissionServiceImpl(UserPermissionRepository permissionRepository, UserRepository userRepository,
+			MeterRegistry meterRegistry,
+			@Value("${security.permission-cache.max-size:10000}") long maxSize,
+			@Value("${security.permission-cache.ttl:PT10M}") Duration ttl) {
+		this.permissionRepository = permissionRepository;
+		this.userRepository = userRepository;
+		this.permissionCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, permissionCache, CACHE_NAME);
+	}
+
+	@Override
+	public PermissionSet getPermissions(Long userId) {
+		return permissionCache.get(userId,
+				id -> PermissionSet.of(permissionRepository.findByUserIdAndActiveTrue(id)));
+	}
+
+	@Override
+	public boolean hasPermission(Long userId, String resourceName, PermissionType permissionType) {
+		return getPermissions(userId).has(resourceName, permissionType);
+	}
+
+	@Override
+	public UserPermission grantPermission(Long userId, String resourceName, PermissionType permissionType,
+			String notes) throws UserException {
+		if (PermissionResource.fromName(resourceName).isEmpty()) {
+			throw new UserException("Unknown resource " + resourceName + ", expected one of "
+					+ Arrays.toString(PermissionResource.values()));
+		}
+		User user = userRepository.findById(userId.intValue())
+				.orElseThrow(() -> new UserException("User not found"));
+
+		UserPermission permission = UserPermission.builder()
+				.user(user)
+				.resourceName(resourceName)
+				.permissionType(permissionType)
+				.active(true)
+				.notes(notes)
+				.createdAt(System.currentTimeMillis())
+				.build();
+
+		UserPermission saved = permissionRepository.save(permission);
+		permissionCache.invalidate(userId);
+		return saved;
+	}
+
+	@Override
+	public void revokePermission(Long permissionId) throws UserException {
+		UserPermission permission = permissionRepository.findById(permissionId)
+				.orElseThrow(() -> new UserException("Permission not found"));
+
+		permission.setActive(false);
+		permission.setUpdatedAt(System.currentTimeMillis());
+		permissionRepository.save(permission);
+		permissionCache.invalidate(permission.getUser().getUserId().longValue());
+	}
+
+}
@@ -4,10 +4,14 @@ import java.util.List;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import Ecom.Config.ReplicaRead;
 import Ecom.Exception.ProductException;
 import Ecom.Model.Product;
 import Ecom.ModelDTO.ProductDTO;
@@ -19,6 +23,13 @@ import Ecom.Service.ProductService;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    private static final Logger log = LoggerFactory.getLogger(ProductServiceImpl.class);
+
+    /**
+     * Stackless and stateless, so one instance serves every product page miss
+     */
+    private static final ProductException PRODUCT_NOT_FOUND = new ProductException("Product not found");
+
     private final ProductRepository productRepository;
 
     @Override
@@ -29,37 +40,35 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional
     public Product updateProduct(Integer productId, ProductDTO updatedProduct) throws ProductException {
 
-        Optional<Product> product = productRepository.findById(productId);
+        Optional<Product> product = productRepository.findWithReviewsByProductId(productId);
         if (product.isEmpty()) {
             throw new ProductException("Product with ID " + productId + " not found.");
         }
         Product existingProduct = product.get();
 
         // Update the existing product's properties with the new data
-        System.out.println("before");
         existingProduct.setName(updatedProduct.getName());
         existingProduct.setCategory(updatedProduct.getCategory());
         existingProduct.setPrice(updatedProduct.getPrice());
         existingProduct.setImageUrl(updatedProduct.getImageUrl());
         existingProduct.setDescription(updatedProduct.getDescription());
-        System.out.println("after");
+        log.debug("Updating product {}", productId);
         productRepository.save(existingProduct);
         return existingProduct;
     }
 
     @Override
+    @ReplicaRead
     public List<Product> getProductByName(String name) throws ProductException {
 
-        List<Product> existProductByName = productRepository.findByName(name);
-        if (existProductByName.isEmpty()) {
-            throw new ProductException("Product Not found with name " + name);
-        }
-        return existProductByName;
+        return productRepository.findByName(name);
     }
 
     @Override
+    @ReplicaRead
     public List<Product> getAllProduct(String keyword, String sortDirection, String sortBy) throws ProductException {
 
         Sort sort = Sort.by(sortDirection.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,sortBy);
@@ -72,22 +81,15 @@ public class ProductServiceImpl implements ProductService {
         } else {
             products = productRepository.findAll(sort);
         }
-        if (products.isEmpty()) {
-            throw new ProductException("Product List Empty");
-        }
-
         return products;
 
     }
 
     @Override
+    @ReplicaRead
     public List<Product> getProductByCategory(String category) throws ProductException {
         // Retrieve products by category from the database
-        List<Product> allproductCategoryName = productRepository.getProductCategoryName(category);
-        if (allproductCategoryName.isEmpty())
-            throw new ProductException("Product with category Name " + category + " not found.");
-
-        return allproductCategoryName;
+        return productRepository.getProductCategoryName(category);
     }
 
 
@@ -101,9 +103,10 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @ReplicaRead
     public Product getSingleProduct(Integer productId) {
 
-        Product single = productRepository.findById(productId).orElseThrow(() -> new ProductException("Product not found"));
+        Product single = productRepository.findWithReviewsByProductId(productId).orElseThrow(() -> PRODUCT_NOT_FOUND);
         return single;
     }
 
@@ -0,0 +1,193 @@
+package Ecom.ServiceImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import Ecom.DTO.RefreshRotation;
+import Ecom.Entity.RefreshToken;
+import Ecom.Exception.RefreshTokenException;
+import Ecom.Repository.RefreshTokenRepository;
+import Ecom.SecurityConfig.BloomFilter;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.SecurityConfig.VerifiedToken;
+import Ecom.Service.RefreshTokenService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+
+/**
+ * Refresh token registry with rotation and a revocation denylist.
+ *
+ * Revoked token ids live in refresh_tokens (revoked = true) and in an in-memory
+ * {@link BloomFilter}. The common case - a token that was never revoked - is answered by
+ * the filter without a query; only "maybe revoked" ids are confirmed in the database.
+ * The filter is an optimisation only: rotation itself is a conditional UPDATE, so a token
+ * the filter misses (e.g. revoked on another instance) is still refused.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+	private final RefreshTokenRepository refreshTokenRepository;
+
+	private final JwtTokenProvider tokenProvider;
+
+	private final long expectedRevocations;
+
+	private final double falsePositiveRate;
+
+	private final Counter filterNegative;
+	private final Counter confirmedRevoked;
+	private final Counter falsePositive;
+
+	private volatile BloomFilter revokedFilter;
+
+	public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository, JwtTokenProvider tokenProvider,
+			MeterRegistry meterRegistry,
+			@Value("${security.refresh-token.bloom.expected-insertions:100000}") long expectedRevocations,
+			@Value("${security.refresh-token.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.tokenProvider = tokenProvider;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveRate = falsePositiveRate;
+		this.filterNegative = denylistCounter(meterRegistry, "filter_negative");
+		this.confirmedRevoked = denylistCounter(meterRegistry, "revoked");
+		this.falsePositive = denylistCounter(meterRegistry, "false_positive");
+	}
+
+	@PostConstruct
+	void loadDenylist() {
+		rebuildFilter();
+	}
+
+	@Override
+	@Transactional
+	public String issue(String username) {
+		return issue(username, UUID.randomUUID().toString());
+	}
+
+	private String issue(String username, String tokenId) {
+		String token = tokenProvider.generateRefreshToken(username, tokenId);
+		VerifiedToken verified = tokenProvider.verify(token);
+
+		refreshTokenRepository.save(RefreshToken.builder()
+				.tokenId(tokenId)
+				.username(username)
+				.issuedAt(verified.getIssuedAt())
+				.expiresAt(verified.getExpiresAt())
+				.revoked(false)
+				.build());
+		return token;
+	}
+
+	/**
+	 * One transaction: the old token is consumed (conditional UPDATE) before its replacement is
+	 * registered, so a failure leaves the old token usable and no orphan replacement behind.
+	 * Reuse detection revokes the user's tokens and then fails; that revocation must stick,
+	 * so RefreshTokenException does not roll the transaction back.
+	 */
+	@Override
+	@Transactional(dontRollbackOn = RefreshTokenException.class)
+	public RefreshRotation rotate(String refreshToken) throws RefreshTokenException {
+		VerifiedToken verified = verifyRefreshToken(refreshToken);
+		String tokenId = verified.getJwtId();
+		if (tokenId == null) {
+			throw new RefreshTokenException("Refresh token is not registered, please log in again");
+		}
+		if (isRevoked(tokenId)) {
+			revokeAll(verified.getSubject(), tokenId);
+			throw new RefreshTokenException("Refresh token has been revoked");
+		}
+
+		String replacementId = UUID.randomUUID().toString();
+		if (refreshTokenRepository.rotate(tokenId, replacementId, Instant.now()) == 0) {
+			if (refreshTokenRepository.findByTokenId(tokenId).isPresent()) {
+				revokeAll(verified.getSubject(), tokenId);
+				throw new RefreshTokenException("Refresh token has been revoked");
+			}
+			throw new RefreshTokenException("Refresh token is not registered, please log in again");
+		}
+		String replacement = issue(verified.getSubject(), replacementId);
+		revokedFilter.put(tokenId);
+
+		return new RefreshRotation(verified.getSubject(), replacement);
+	}
+
+	@Override
+	public void revoke(String refreshToken) {
+		try {
+			String tokenId = verifyRefreshToken(refreshToken).getJwtId();
+			if (tokenId != null && refreshTokenRepository.revoke(tokenId, Instant.now()) > 0) {
+				revokedFilter.put(tokenId);
+			}
+		} catch (RefreshTokenException e) {
+			// nothing to revoke
+		}
+	}
+
+	@Override
+	public boolean isRevoked(String tokenId) {
+		if (!revokedFilter.mightContain(tokenId)) {
+			filterNegative.increment();
+			return false;
+		}
+		boolean revoked = refreshTokenRepository.findByTokenId(tokenId)
+				.map(RefreshToken::getRevoked)
+				.orElse(false);
+		(revoked ? confirmedRevoked : falsePositive).increment();
+		return revoked;
+	}
+
+	@Override
+	public int purgeExpired() {
+		int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+		rebuildFilter();
+		return deleted;
+	}
+
+	/**
+	 * Reuse of a consumed token means it leaked: end every session of that user
+	 */
+	private void revokeAll(String username, String reusedTokenId) {
+		List<String> active = refreshTokenRepository.findActiveTokenIds(username);
+		refreshTokenRepository.revokeAllForUser(username, Instant.now());
+		active.forEach(revokedFilter::put);
+		log.warn("Refresh token {} of {} was reused; revoked {} active tokens", reusedTokenId, username, active.size());
+	}
+
+	private VerifiedToken verifyRefreshToken(String refreshToken) {
+		VerifiedToken verified;
+		try {
+			verified = tokenProvider.verify(refreshToken);
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new RefreshTokenException("Invalid or expired refresh token");
+		}
+		if (!JwtTokenProvider.REFRESH.equals(verified.getTokenType())) {
+			throw new RefreshTokenException("Not a refresh token");
+		}
+		return verified;
+	}
+
+	private void rebuildFilter() {
+		List<String> revoked = refreshTokenRepository.findRevokedTokenIds(Instant.now());
+		BloomFilter filter = BloomFilter.create(Math.max(expectedRevocations, revoked.size() * 2L), falsePositiveRate);
+		revoked.forEach(filter::put);
+		revokedFilter = filter;
+	}
+
+	private static Counter denylistCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("ecom.security.refresh.denylist")
+				.description("Refresh token revocation checks by outcome")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
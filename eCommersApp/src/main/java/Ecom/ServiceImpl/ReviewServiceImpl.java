@@ -5,7 +5,9 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import Ecom.Config.ReplicaRead;
 import Ecom.Exception.ProductException;
 import Ecom.Exception.ReviewException;
 import Ecom.Exception.UserException;
@@ -21,6 +23,11 @@ import Ecom.Service.ReviewService;
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+	/**
+	 * Stackless and stateless, so one instance serves every lookup of an unknown product
+	 */
+	private static final ReviewException INVALID_PRODUCT = new ReviewException("Invalid Product id");
+
 	private final ProductRepository productRepository;
 
 	private final ReviewRepository reviewRepository;
@@ -35,17 +42,15 @@ public class ReviewServiceImpl implements ReviewService {
 		User existingUser = userRepository.findById(userId)
 				.orElseThrow(() -> new ReviewException("User Not Found In Database"));
 
-		existingUser.getReviews().add(review);
+		// the review owns both foreign keys; the inverse collections are left unloaded
 		review.setUser(existingUser);
-		existingProduct.getReviews().add(review);
 		review.setProduct(existingProduct);
-		userRepository.save(existingUser);
-		productRepository.save(existingProduct);
 
 		return reviewRepository.save(review);
 	}
 
 	@Override
+	@Transactional
 	public Review updateReviewToProduct(Integer reviewId, Review review) throws ReviewException {
 		Review existingReview = reviewRepository.findById(reviewId)
 				.orElseThrow(() -> new ReviewException("Review With Id "+reviewId+"Not Found In DataBase"));
@@ -65,15 +70,10 @@ public class ReviewServiceImpl implements ReviewService {
 	}
 
 	@Override
+	@ReplicaRead
 	public List<Review> getAllReviewOfProduct(Integer productId) throws ReviewException {
-		Product existingProduct = productRepository.findById(productId)
-				.orElseThrow(() -> new ReviewException("Invalid Product id"));
-		
-		List<Review> allReviewsByProductId = reviewRepository.findAllReviewsByProductId(productId);
-		if(allReviewsByProductId.isEmpty()) { 
-			 throw new ReviewException ("No Rewiew Of Given Product is Available");
-		}
-		return allReviewsByProductId;
+		productRepository.findById(productId).orElseThrow(() -> INVALID_PRODUCT);
+		return reviewRepository.findAllReviewsByProductId(productId);
 	}
 
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import Ecom.Config.ReplicaRead;
 import Ecom.Exception.ShipperException;
 import Ecom.Model.Shipper;
 import Ecom.Repository.ShipperRepository;
@@ -44,17 +45,15 @@ public class ShipperServiceImpl implements ShipperService {
 	}
 
 	@Override
+	@ReplicaRead
 	public Shipper getShipperById(Integer id) throws ShipperException {
 		return shipperRepository.findById(id)
 				.orElseThrow(() -> new ShipperException("Shipper with ID " + id + " not found."));
 	}
 
 	@Override
+	@ReplicaRead
 	public List<Shipper> getAllShippers() throws ShipperException {
-		List<Shipper> shippers = shipperRepository.findAll();
-		if (shippers.isEmpty()) {
-			throw new ShipperException("No shippers found.");
-		}
-		return shippers;
+		return shipperRepository.findAll();
 	}
 }
@@ -0,0 +1,144 @@
+package Ecom.ServiceImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import Ecom.DTO.TokenIntrospection;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.SecurityConfig.ScopeSet;
+import Ecom.SecurityConfig.VerifiedToken;
+import Ecom.Service.RefreshTokenService;
+import Ecom.Service.TokenIntrospectionService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Introspection and scope checks for bearer tokens, mainly middleware tokens.
+ * A token is verified through {@link JwtTokenProvider#verify(String)} (itself cached) and its
+ * scopes are compiled into a {@link ScopeSet} once; the compiled entry is cached by token id
+ * until the token's exp claim, so repeat checks are a cache hit and a bitmask AND.
+ * Refresh tokens, and access tokens through the refresh token they were issued with (sid),
+ * are additionally checked against the revocation denylist on every call.
+ */
+@Service
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+	public static final String CACHE_NAME = "tokenScopes";
+
+	private final JwtTokenProvider tokenProvider;
+
+	private final RefreshTokenService refreshTokenService;
+
+	private final Cache<String, CompiledToken> compiledTokens;
+
+	public TokenIntrospectionServiceImpl(JwtTokenProvider tokenProvider, RefreshTokenService refreshTokenService,
+			MeterRegistry meterRegistry, @Value("${security.scope-cache.max-size:10000}") long maxSize) {
+		this.tokenProvider = tokenProvider;
+		this.refreshTokenService = refreshTokenService;
+		this.compiledTokens = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new Expiry<String, CompiledToken>() {
+					@Override
+					public long expireAfterCreate(String key, CompiledToken token, long currentTime) {
+						return remainingNanos(token.verified);
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, CompiledToken token, long currentTime,
+							long currentDuration) {
+						return remainingNanos(token.verified);
+					}
+
+					@Override
+					public long expireAfterRead(String key, CompiledToken token, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, compiledTokens, CACHE_NAME);
+	}
+
+	@Override
+	public TokenIntrospection introspect(String token, Collection<String> requiredScopes) {
+		CompiledToken compiled = activeToken(token);
+		if (compiled == null) {
+			return TokenIntrospection.INACTIVE;
+		}
+		VerifiedToken verified = compiled.verified;
+		return TokenIntrospection.builder()
+				.active(true)
+				.sub(verified.getSubject())
+				.tokenType(verified.getTokenType() != null ? verified.getTokenType() : "ACCESS")
+				.scopes(compiled.scopes.names())
+				.authorities(verified.getAuthorities())
+				.iat(verified.getIssuedAt() != null ? verified.getIssuedAt().getEpochSecond() : null)
+				.exp(verified.getExpiresAt() != null ? verified.getExpiresAt().getEpochSecond() : null)
+				.allowed(requiredScopes == null || requiredScopes.isEmpty() ? null : grants(compiled, requiredScopes))
+				.build();
+	}
+
+	@Override
+	public boolean hasScopes(String token, Collection<String> requiredScopes) {
+		CompiledToken compiled = activeToken(token);
+		return compiled != null && grants(compiled, requiredScopes);
+	}
+
+	/**
+	 * Verified and compiled token, or null if it is malformed, expired or revoked
+	 */
+	private CompiledToken activeToken(String token) {
+		VerifiedToken verified;
+		try {
+			verified = tokenProvider.verify(token);
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+		if (verified.isExpired()) {
+			return null;
+		}
+		if (JwtTokenProvider.REFRESH.equals(verified.getTokenType()) && verified.getJwtId() != null
+				&& refreshTokenService.isRevoked(verified.getJwtId())) {
+			return null;
+		}
+		if (verified.getSessionId() != null && refreshTokenService.isRevoked(verified.getSessionId())) {
+			return null;
+		}
+		return compiledTokens.get(verified.getTokenId(),
+				id -> new CompiledToken(verified, ScopeSet.of(verified.getScopes())));
+	}
+
+	private static boolean grants(CompiledToken compiled, Collection<String> requiredScopes) {
+		ScopeSet required = ScopeSet.required(requiredScopes);
+		return required != null && compiled.scopes.containsAll(required);
+	}
+
+	private static long remainingNanos(VerifiedToken token) {
+		if (token.getExpiresAt() == null) {
+			return Long.MAX_VALUE;
+		}
+		return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+	}
+
+	private static final class CompiledToken {
+
+		final VerifiedToken verified;
+
+		final ScopeSet scopes;
+
+		CompiledToken(VerifiedToken verified, ScopeSet scopes) {
+			this.verified = verified;
+			this.scopes = scopes;
+		}
+	}
+}
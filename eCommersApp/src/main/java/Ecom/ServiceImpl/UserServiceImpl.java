@@ -2,12 +2,23 @@ package Ecom.ServiceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import Ecom.DTO.AddressSummaryDTO;
+import Ecom.DTO.CustomerSearchCriteria;
+import Ecom.DTO.CustomerSearchResponse;
+import Ecom.DTO.CustomerSummaryDTO;
 import Ecom.Enum.UserAccountStatus;
 import Ecom.Enum.UserRole;
 import Ecom.Exception.UserException;
@@ -15,20 +26,37 @@ import Ecom.Model.User;
 import Ecom.ModelDTO.AdminDTO;
 import Ecom.ModelDTO.CustomerDTO;
 import Ecom.ModelDTO.UserDTO;
+import Ecom.Repository.AddressRepository;
 import Ecom.Repository.UserRepository;
 import Ecom.Service.UserService;
 
 @Service
 public class UserServiceImpl implements UserService {
 
+	private static final Logger log = LoggerFactory.getLogger(UserServiceImpl.class);
+
+	private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+	/**
+	 * Rows per query while exporting; memory stays at one batch whatever the table size
+	 */
+	private static final int EXPORT_BATCH_SIZE = 500;
+
 	private final UserRepository userRepository;
 
+	private final AddressRepository addressRepository;
+
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
+	private final CustomerUserDetailsService userDetailsService;
+
 	@Autowired
-	public UserServiceImpl(UserRepository userRepository) {
+	public UserServiceImpl(UserRepository userRepository, AddressRepository addressRepository,
+			CustomerUserDetailsService userDetailsService) {
 		this.userRepository = userRepository;
+		this.addressRepository = addressRepository;
+		this.userDetailsService = userDetailsService;
 	}
 
 	@Override
@@ -43,7 +71,7 @@ public class UserServiceImpl implements UserService {
 			throw new UserException("customer Can not be Null");
 		Optional<User> findByEmail = userRepository.findByEmail(customer.getEmail());
 		if (findByEmail.isPresent()) {
-			System.out.println("inside add user method");
+			log.debug("Customer registration rejected: e-mail already registered");
 			throw new RuntimeException("Email alredy Register");
 		}
 
@@ -66,7 +94,7 @@ public class UserServiceImpl implements UserService {
 			throw new UserException("admin Can not be Null");
 		Optional<User> findByEmail = userRepository.findByEmail(customer.getEmail());
 		if (findByEmail.isPresent()) {
-			System.out.println("inside add user method");
+			log.debug("Admin registration rejected: e-mail already registered");
 			throw new RuntimeException("Email alredy Register");
 		}
 		User newAdmin = new User();
@@ -82,11 +110,14 @@ public class UserServiceImpl implements UserService {
 		return userRepository.save(newAdmin);
 	}
 
+	@Transactional
 	public User changePassword(Integer userId, UserDTO customer) throws UserException {
-		User user = userRepository.findById(userId).orElseThrow(() -> new UserException("User not found"));
+		User user = userRepository.findWithAddressByUserId(userId).orElseThrow(() -> new UserException("User not found"));
 		if (customer.getNewPassword().length() >= 5 && customer.getNewPassword().length() <= 10) {
 			user.updatePassword(customer.getNewPassword(), passwordEncoder);
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			userDetailsService.evict(saved.getEmail());
+			return saved;
 		} else {
 			throw new UserException("provide valid  password");
 		}
@@ -99,25 +130,82 @@ public class UserServiceImpl implements UserService {
 		User existingUser = userRepository.findById(userId).orElseThrow(() -> new UserException("User not found"));
 		existingUser.setUserAccountStatus(UserAccountStatus.DEACTIVETE);
 		userRepository.save(existingUser);
+		userDetailsService.evict(existingUser.getEmail());
 		return "Account deactivet Succesfully";
 	}
 
 	@Override
 	public User getUserDetails(Integer userId) throws UserException {
-		User existingUser = userRepository.findById(userId).orElseThrow(() -> new UserException("User not found"));
+		User existingUser = userRepository.findWithAddressByUserId(userId).orElseThrow(() -> new UserException("User not found"));
 		return existingUser;
 	}
 
 	@Override
-	public List<User> getAllUserDetails() throws UserException {
+	public CustomerSearchResponse searchCustomers(CustomerSearchCriteria criteria) throws UserException {
+		if (criteria.getSize() < 1 || criteria.getSize() > MAX_SEARCH_PAGE_SIZE) {
+			throw new UserException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+		}
+		normalize(criteria);
 
-		List<User> existingAllUser = userRepository.findAll();
-		if (existingAllUser.isEmpty()) {
-			new UserException("User list is Empty");
+		// fetch one extra row to learn whether another page exists
+		List<CustomerSummaryDTO> rows = userRepository.searchCustomers(criteria, criteria.getSize() + 1);
+		boolean hasMore = rows.size() > criteria.getSize();
+		if (hasMore) {
+			rows = rows.subList(0, criteria.getSize());
 		}
-		return existingAllUser;
+		attachLatestAddresses(rows);
+
+		return CustomerSearchResponse.builder()
+				.customers(rows)
+				.hasMore(hasMore)
+				.nextCursor(hasMore ? rows.get(rows.size() - 1).getUserId() : null)
+				.build();
 	}
 
-	
+	@Override
+	public void exportCustomers(CustomerSearchCriteria criteria, Consumer<List<CustomerSummaryDTO>> batchConsumer)
+			throws UserException {
+		normalize(criteria);
+		criteria.setCursor(null);
+		while (true) {
+			List<CustomerSummaryDTO> batch = userRepository.searchCustomers(criteria, EXPORT_BATCH_SIZE);
+			if (batch.isEmpty()) {
+				return;
+			}
+			attachLatestAddresses(batch);
+			batchConsumer.accept(batch);
+			if (batch.size() < EXPORT_BATCH_SIZE) {
+				return;
+			}
+			criteria.setCursor(batch.get(batch.size() - 1).getUserId());
+		}
+	}
+
+	/**
+	 * Blank filters mean no filter
+	 */
+	private static void normalize(CustomerSearchCriteria criteria) {
+		criteria.setEmail(trimToNull(criteria.getEmail()));
+		criteria.setName(trimToNull(criteria.getName()));
+	}
+
+	private static String trimToNull(String value) {
+		return value == null || value.isBlank() ? null : value.trim();
+	}
+
+	/**
+	 * One address query per page instead of loading every user's address collection
+	 */
+	private void attachLatestAddresses(List<CustomerSummaryDTO> customers) {
+		if (customers.isEmpty()) {
+			return;
+		}
+		List<Integer> userIds = customers.stream().map(CustomerSummaryDTO::getUserId).toList();
+		Map<Integer, AddressSummaryDTO> latest = addressRepository.findLatestAddresses(userIds).stream()
+				.collect(Collectors.toMap(AddressSummaryDTO::getUserId, Function.identity()));
+		for (CustomerSummaryDTO customer : customers) {
+			customer.setLatestAddress(latest.get(customer.getUserId()));
+		}
+	}
 
 }
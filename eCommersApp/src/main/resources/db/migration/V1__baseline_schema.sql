@@ -0,0 +1,148 @@
+-- Baseline: the schema as Hibernate ddl-auto=update created it before migrations existed.
+-- Databases that already have these tables are baselined at version 1 and skip this script,
+-- so it must not contain anything added since: every later change is its own migration.
+
+create table address (
+    addressid serial not null,
+    userid integer,
+    city varchar(10) not null,
+    state varchar(10) not null,
+    flat_no varchar(255) not null,
+    street varchar(255) not null,
+    zip_code varchar(255) not null,
+    primary key (addressid)
+);
+
+create table cart (
+    cart_id serial not null,
+    total_amount float(53),
+    user_id integer unique,
+    primary key (cart_id)
+);
+
+create table cart_items (
+    cart_id integer,
+    cart_item_id serial not null,
+    product_id integer,
+    quantity integer,
+    primary key (cart_item_id)
+);
+
+create table order_item (
+    order_id integer,
+    order_item_id serial not null,
+    product_id integer,
+    quantity integer,
+    primary key (order_item_id)
+);
+
+create table orders (
+    order_id serial not null,
+    total_amount float(53) not null,
+    user_id integer,
+    order_date timestamp(6),
+    payment_id bigint unique,
+    shipping_details_id bigint unique,
+    status varchar(255) check (status in ('DELIVERED','PENDING','SHIPPED','CANCELED')),
+    primary key (order_id)
+);
+
+create table orders_order_item (
+    order_item_order_item_id integer not null unique,
+    orders_order_id integer not null
+);
+
+create table payments (
+    order_id integer unique,
+    payment_amount float(53),
+    user_id integer not null,
+    payment_date timestamp(6),
+    payment_id bigserial not null,
+    payment_method varchar(255) check (payment_method in ('CASH','CREDIT_CARD','UPI')),
+    payment_status varchar(255) check (payment_status in ('SUCCESSFUL','FAILED','PENDING')),
+    primary key (payment_id)
+);
+
+create table products (
+    is_available boolean,
+    price float(53) not null,
+    product_id serial not null,
+    description varchar(50) not null,
+    category_name varchar(255) not null,
+    image_url varchar(255) not null,
+    name varchar(255) not null,
+    primary key (product_id)
+);
+
+create table reviews (
+    product_id integer,
+    rating integer,
+    user_id integer,
+    created_at timestamp(6),
+    review_id bigserial not null,
+    comment varchar(255) not null,
+    primary key (review_id)
+);
+
+create table shipper (
+    shipper_id serial not null,
+    phone_number varchar(12) not null,
+    name varchar(255) not null,
+    primary key (shipper_id)
+);
+
+create table shipping (
+    order_id integer unique,
+    shipper_id integer,
+    shipping_id bigserial not null,
+    address varchar(255) not null,
+    city varchar(255) not null,
+    country varchar(255),
+    postal_code varchar(255) not null,
+    state varchar(255) not null,
+    primary key (shipping_id)
+);
+
+create table user_permissions (
+    active boolean not null,
+    user_id integer not null,
+    created_at bigint not null,
+    id bigserial not null,
+    updated_at bigint,
+    notes varchar(255),
+    permission_type varchar(255) not null check (permission_type in ('CREATE','READ','UPDATE','DELETE','EXPORT','IMPORT','ADMIN')),
+    resource_name varchar(255) not null,
+    primary key (id),
+    constraint UK14g57o4r42bekscumeo8evntv unique (user_id, permission_type, resource_name)
+);
+
+create table users (
+    user_id serial not null,
+    user_reg_time timestamp(6),
+    email varchar(255) unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    password varchar(255),
+    phone_number varchar(255),
+    user_account_status varchar(255) check (user_account_status in ('ACTIVE','DEACTIVETE')),
+    user_role varchar(255) check (user_role in ('ROLE_ADMIN','ROLE_USER')),
+    primary key (user_id)
+);
+
+alter table if exists address add constraint FKt3i7rgmxmmkev35dxs947wasb foreign key (userid) references users;
+alter table if exists cart add constraint FKg5uhi8vpsuy0lgloxk2h4w5o6 foreign key (user_id) references users;
+alter table if exists cart_items add constraint FK99e0am9jpriwxcm6is7xfedy3 foreign key (cart_id) references cart;
+alter table if exists cart_items add constraint FK1re40cjegsfvw58xrkdp6bac6 foreign key (product_id) references products;
+alter table if exists order_item add constraint FKc5uhmwioq5kscilyuchp4w49o foreign key (product_id) references products;
+alter table if exists orders add constraint FK8aol9f99s97mtyhij0tvfj41f foreign key (payment_id) references payments;
+alter table if exists orders add constraint FK10ky3mmr0e3500el6ynx2mdf4 foreign key (shipping_details_id) references shipping;
+alter table if exists orders add constraint FK32ql8ubntj5uh44ph9659tiih foreign key (user_id) references users;
+alter table if exists orders_order_item add constraint FKrp4rk9odvt4maae979liyxh3d foreign key (order_item_order_item_id) references order_item;
+alter table if exists orders_order_item add constraint FKch0sunruxw49910tmdvdjd1gi foreign key (orders_order_id) references orders;
+alter table if exists payments add constraint FK81gagumt0r8y3rmudcgpbk42l foreign key (order_id) references orders;
+alter table if exists payments add constraint FKj94hgy9v5fw1munb90tar2eje foreign key (user_id) references users;
+alter table if exists reviews add constraint FKpl51cejpw4gy5swfar8br9ngi foreign key (product_id) references products;
+alter table if exists reviews add constraint FKcgy7qjc1r99dp117y9en6lxye foreign key (user_id) references users;
+alter table if exists shipping add constraint FK2umyblvwmvm2ju0be634j89x4 foreign key (order_id) references orders;
+alter table if exists shipping add constraint FKmx4r9yky68jxrhanvfqkv0up3 foreign key (shipper_id) references shipper;
+alter table if exists user_permissions add constraint FKkowxl8b2bngrxd1gafh13005u foreign key (user_id) references users;
@@ -0,0 +1,14 @@
+-- Order lines keep the product name and price they were sold at (OrderItem snapshot columns).
+alter table order_item add column if not exists product_name varchar(255);
+alter table order_item add column if not exists unit_price float(53);
+alter table order_item add column if not exists line_total float(53);
+
+-- Order items written before these columns existed get the current catalog values as the
+-- best available snapshot. Rows that already carry one are untouched.
+update order_item oi
+set product_name = p.name,
+    unit_price = p.price,
+    line_total = p.price * oi.quantity
+from products p
+where p.product_id = oi.product_id
+  and oi.unit_price is null;
@@ -0,0 +1,6 @@
+-- Admin order search (OrderSearchRepositoryImpl) and the stuck-order scan filter on status,
+-- customer and order date ranges. Search pages are keyed on (order_date, order_id) newest first,
+-- so order_id trails each index and a page is read straight off it without a sort.
+create index if not exists idx_orders_status_date on orders (status, order_date, order_id);
+create index if not exists idx_orders_user_date on orders (user_id, order_date, order_id);
+create index if not exists idx_orders_date on orders (order_date, order_id);
@@ -0,0 +1,51 @@
+-- Cold order archive (OrderArchiveServiceImpl): orders past the horizon move here with their
+-- lines, payment and shipping row, keeping their ids.
+create table if not exists orders_archive (
+    order_id integer not null,
+    total_amount float(53) not null,
+    user_id integer,
+    archived_at timestamp(6),
+    order_date timestamp(6),
+    status varchar(255) check (status in ('DELIVERED','PENDING','SHIPPED','CANCELED')),
+    primary key (order_id)
+);
+
+create table if not exists order_item_archive (
+    line_total float(53),
+    order_id integer,
+    order_item_id integer not null,
+    product_id integer,
+    quantity integer,
+    unit_price float(53),
+    product_name varchar(255),
+    primary key (order_item_id)
+);
+
+create table if not exists payments_archive (
+    order_id integer,
+    payment_amount float(53),
+    user_id integer,
+    payment_date timestamp(6),
+    payment_id bigint not null,
+    payment_method varchar(255) check (payment_method in ('CASH','CREDIT_CARD','UPI')),
+    payment_status varchar(255) check (payment_status in ('SUCCESSFUL','FAILED','PENDING')),
+    primary key (payment_id)
+);
+
+create table if not exists shipping_archive (
+    order_id integer,
+    shipper_id integer,
+    shipping_id bigint not null,
+    address varchar(255),
+    city varchar(255),
+    country varchar(255),
+    postal_code varchar(255),
+    state varchar(255),
+    primary key (shipping_id)
+);
+
+create index if not exists idx_orders_archive_user on orders_archive (user_id);
+create index if not exists idx_orders_archive_date on orders_archive (order_date);
+create index if not exists idx_order_item_archive_order on order_item_archive (order_id);
+create index if not exists idx_payments_archive_order on payments_archive (order_id);
+create index if not exists idx_shipping_archive_order on shipping_archive (order_id);
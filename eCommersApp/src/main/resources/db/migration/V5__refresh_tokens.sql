@@ -0,0 +1,16 @@
+-- Refresh token registry (RefreshTokenServiceImpl): one row per issued token, rotation chain
+-- in replaced_by, revocation flag checked behind the Bloom-filtered denylist.
+create table if not exists refresh_tokens (
+    revoked boolean not null,
+    expires_at timestamp(6) with time zone not null,
+    id bigserial not null,
+    issued_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone,
+    replaced_by varchar(36),
+    token_id varchar(36) not null unique,
+    username varchar(255) not null,
+    primary key (id)
+);
+
+create index if not exists idx_refresh_tokens_username on refresh_tokens (username, revoked);
+create index if not exists idx_refresh_tokens_expires on refresh_tokens (expires_at);
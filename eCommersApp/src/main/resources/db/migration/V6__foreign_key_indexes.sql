@@ -0,0 +1,22 @@
+-- PostgreSQL does not index foreign key columns on its own. These back the joins and
+-- lookups the repositories run on every cart, order, review and permission request.
+-- orders.user_id is already the leading column of idx_orders_user_date.
+
+create index if not exists idx_cart_items_cart on cart_items (cart_id);
+create index if not exists idx_cart_items_product on cart_items (product_id);
+
+-- order lines: the Orders.orderItem join table and the order_id column of the snapshot rows
+create index if not exists idx_orders_order_item_order on orders_order_item (orders_order_id);
+create index if not exists idx_order_item_order on order_item (order_id);
+create index if not exists idx_order_item_product on order_item (product_id);
+
+create index if not exists idx_reviews_product on reviews (product_id);
+create index if not exists idx_reviews_user on reviews (user_id);
+
+create index if not exists idx_address_user on address (userid);
+
+create index if not exists idx_payments_user on payments (user_id);
+create index if not exists idx_shipping_shipper on shipping (shipper_id);
+
+-- findByUserIdAndActiveTrue: only active grants are ever read
+create index if not exists idx_user_permissions_user_active on user_permissions (user_id) where active;
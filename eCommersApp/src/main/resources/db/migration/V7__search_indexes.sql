@@ -0,0 +1,32 @@
+-- Case-insensitive prefix search of the admin customer listing: lower(column) LIKE 'prefix%'.
+-- text_pattern_ops makes the index usable for LIKE whatever the database collation.
+create index if not exists idx_users_email_lower on users (lower(email) text_pattern_ops);
+create index if not exists idx_users_first_name_lower on users (lower(first_name) text_pattern_ops);
+create index if not exists idx_users_last_name_lower on users (lower(last_name) text_pattern_ops);
+
+-- Product search matches substrings (LIKE '%x%', upper(name) LIKE upper('%x%')), which only a
+-- trigram index can serve. pg_trgm ships with PostgreSQL contrib but is not installed everywhere,
+-- and creating it may need privileges the application user lacks: without it the indexes are
+-- skipped and search keeps scanning the table.
+do $$
+begin
+    if exists (select 1 from pg_available_extensions where name = 'pg_trgm') then
+        begin
+            create extension if not exists pg_trgm;
+        exception when insufficient_privilege then
+            raise notice 'pg_trgm available but not installable by %, product search stays unindexed', current_user;
+        end;
+    end if;
+
+    if exists (select 1 from pg_extension where extname = 'pg_trgm') then
+        -- findByName: name LIKE '%x%'
+        create index if not exists idx_products_name_trgm on products using gin (name gin_trgm_ops);
+        -- findAllByNameContainingIgnoreCase: upper(name) LIKE upper('%x%')
+        create index if not exists idx_products_name_upper_trgm on products using gin (upper(name) gin_trgm_ops);
+        -- getProductCategoryName: category_name LIKE '%x%'
+        create index if not exists idx_products_category_trgm on products using gin (category_name gin_trgm_ops);
+    else
+        raise notice 'pg_trgm not installed, product search stays unindexed';
+    end if;
+end
+$$;
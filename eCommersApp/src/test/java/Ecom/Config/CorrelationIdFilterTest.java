@@ -0,0 +1,56 @@
+package Ecom.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * The request id is in the MDC for the whole chain, echoed to the client and cleared afterwards;
+ * incoming ids are only trusted when they cannot forge log content.
+ */
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void generatedIdIsLoggedEchoedAndCleared() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String seen = run(new MockHttpServletRequest("GET", "/ecom/products/all"), response);
+
+        assertNotNull(seen);
+        assertEquals(seen, response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void wellFormedIncomingIdIsKept() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ecom/products/all");
+        request.addHeader(CorrelationIdFilter.HEADER, "edge-7f3a.42_b");
+
+        assertEquals("edge-7f3a.42_b", run(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void malformedIncomingIdIsReplaced() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ecom/products/all");
+        request.addHeader(CorrelationIdFilter.HEADER, "forged\n2026-01-01 ERROR fake line");
+
+        String seen = run(request, new MockHttpServletResponse());
+        assertNotEquals("forged\n2026-01-01 ERROR fake line", seen);
+        assertEquals(seen, Long.toHexString(Long.parseUnsignedLong(seen, 16)));
+    }
+
+    private String run(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+        return seen.get();
+    }
+}
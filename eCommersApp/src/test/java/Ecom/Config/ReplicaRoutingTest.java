@@ -0,0 +1,149 @@
+package Ecom.Config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routing against the local two-instance setup (scripts/start-local-replica.sh: primary on 5432,
+ * streaming replica on 5433). pg_is_in_recovery() tells which server answered.
+ * Skipped when no replica is listening.
+ */
+@SpringBootTest(properties = {
+        "replica.urls=" + ReplicaRoutingTest.REPLICA_URL,
+        "replica.max-lag=PT0.05S",
+        "replica.check-interval=PT1H" })
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:postgresql://localhost:5433/ecommerce";
+
+    private static final String IN_RECOVERY = "SELECT pg_is_in_recovery()";
+
+    @TestConfiguration
+    static class Probes {
+
+        @Bean
+        ServerProbe serverProbe(JdbcTemplate jdbcTemplate) {
+            return new ServerProbe(jdbcTemplate);
+        }
+    }
+
+    static class ServerProbe {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        ServerProbe(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @ReplicaRead
+        public boolean replicaRead() {
+            return jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class);
+        }
+
+        @Transactional(readOnly = true)
+        public boolean plainReadOnly() {
+            return jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class);
+        }
+
+        @Transactional
+        public boolean write() {
+            jdbcTemplate.queryForObject("SELECT pg_current_xact_id()::text", String.class);
+            return jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class);
+        }
+    }
+
+    @Autowired
+    private ServerProbe serverProbe;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void requireReplica() {
+        try (Connection connection = replicaConnection()) {
+            assumeTrue(connection.isValid(1), "no replica on " + REPLICA_URL);
+        } catch (SQLException e) {
+            assumeTrue(false, "no replica on " + REPLICA_URL + ": " + e.getMessage());
+        }
+    }
+
+    @BeforeEach
+    void replicaInRotation() throws InterruptedException {
+        awaitHealthy();
+    }
+
+    @AfterEach
+    void resumeReplay() throws SQLException {
+        try (Connection connection = replicaConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_wal_replay_resume()");
+        }
+    }
+
+    @Test
+    void replicaReadsGoToTheReplica() {
+        assertTrue(serverProbe.replicaRead());
+        assertTrue(meterRegistry.get("ecom.datasource.routed").tag("pool", "replica-1").counter().count() >= 1);
+        assertTrue(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge() != null);
+    }
+
+    @Test
+    void writesAndUnmarkedReadsStayOnThePrimary() {
+        assertFalse(serverProbe.write());
+        assertFalse(serverProbe.plainReadOnly());
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() throws Exception {
+        try (Connection connection = replicaConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_wal_replay_pause()");
+        }
+        serverProbe.write();
+        Thread.sleep(300);
+        replicaLagMonitor.checkReplicas();
+
+        assertFalse(routingDataSource.getReplicas().get(0).isHealthy());
+        assertFalse(serverProbe.replicaRead());
+
+        resumeReplay();
+        awaitHealthy();
+        assertTrue(serverProbe.replicaRead());
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        for (int i = 0; i < 50 && !routingDataSource.getReplicas().get(0).isHealthy(); i++) {
+            replicaLagMonitor.checkReplicas();
+            Thread.sleep(100);
+        }
+        assertTrue(routingDataSource.getReplicas().get(0).isHealthy(), "replica did not catch up");
+    }
+
+    private static Connection replicaConnection() throws SQLException {
+        return DriverManager.getConnection(REPLICA_URL, System.getenv().getOrDefault("DB_USER", "postgres"),
+                System.getenv().getOrDefault("DB_PASSWORD", "password"));
+    }
+}
@@ -0,0 +1,79 @@
+package Ecom.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import Ecom.Exception.ProductException;
+import Ecom.Service.ProductService;
+import Ecom.Support.ShopFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.RequiredSearch;
+
+/**
+ * Service calls made through the beans are timed per interface method, split into JDBC and
+ * in-process time, and failures carry the exception type.
+ */
+@SpringBootTest
+class ServiceTimingTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductService productService;
+
+    private ShopFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        fixture.delete();
+    }
+
+    @Test
+    void placeOrderTimeIsSplitIntoDatabaseAndInProcessTime() {
+        Timer calls = timer(ServiceTimingAspect.CALLS, "OrdersService", "placeOrder")
+                .tag("outcome", "success").tag("exception", "none").timer();
+        Timer db = timer(ServiceTimingAspect.DB, "OrdersService", "placeOrder").timer();
+        Timer app = timer(ServiceTimingAspect.APP, "OrdersService", "placeOrder").timer();
+
+        assertTrue(calls.count() >= 2, "the fixture places two orders");
+        assertEquals(calls.count(), db.count());
+        assertEquals(calls.count(), app.count());
+        assertTrue(db.totalTime(TimeUnit.NANOSECONDS) > 0, "placeOrder reads and writes through JDBC");
+        assertEquals(calls.totalTime(TimeUnit.MILLISECONDS),
+                db.totalTime(TimeUnit.MILLISECONDS) + app.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void failedCallsAreTaggedWithTheExceptionType() {
+        assertThrows(ProductException.class, () -> productService.getSingleProduct(-1));
+
+        Timer failed = timer(ServiceTimingAspect.CALLS, "ProductService", "getSingleProduct")
+                .tag("outcome", "error").tag("exception", "ProductException").timer();
+        assertTrue(failed.count() >= 1);
+        assertTrue(failed.takeSnapshot().percentileValues().length > 0, "percentiles are configured for ecom.service");
+    }
+
+    private RequiredSearch timer(String name, String service, String method) {
+        return meterRegistry.get(name).tag("service", service).tag("method", method);
+    }
+}
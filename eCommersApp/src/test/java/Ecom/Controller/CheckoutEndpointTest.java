@@ -0,0 +1,144 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import Ecom.Model.Shipper;
+import Ecom.Repository.ShipperRepository;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.Support.ShopFixture;
+
+/**
+ * One-call checkout: order, payment and shipping are written together or not at all, and only
+ * the cart owner (or ADMIN) may check a cart out. Each test seeds its own {@link ShopFixture}
+ * (two orders, one payment, three items in the cart).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CheckoutEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ShipperRepository shipperRepository;
+
+    private ShopFixture shop;
+
+    private Integer shipperId;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+        Shipper shipper = new Shipper();
+        shipper.setName("Checkout Freight " + shop.getTag());
+        shipper.setPhoneNumber("0123456789");
+        shipperId = shipperRepository.save(shipper).getShipperId();
+    }
+
+    @AfterEach
+    void deleteRows() {
+        shop.delete();
+        shipperRepository.deleteById(shipperId);
+    }
+
+    @Test
+    void checkoutPaysShipsAndEmptiesTheCart() throws Exception {
+        checkout(shop, shop.getUserId(), shipperId, "India").andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("SHIPPED"))
+                .andExpect(jsonPath("$.paymentStatus").value("SUCCESSFUL"))
+                .andExpect(jsonPath("$.totalAmount").value(60.0));
+
+        assertEquals(List.of(3, 2, 1, 0), rows(shop));
+    }
+
+    @Test
+    void anotherUsersCartIsRefused() throws Exception {
+        ShopFixture other = new ShopFixture(context);
+        try {
+            checkout(shop, other.getUserId(), shipperId, "India").andExpect(status().isForbidden());
+
+            assertEquals(List.of(2, 1, 0, 3), rows(other));
+        } finally {
+            other.delete();
+        }
+    }
+
+    @Test
+    void unknownShipperIsRefused() throws Exception {
+        checkout(shop, shop.getUserId(), -1, "India").andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.message").value("Shipper not found"));
+
+        assertEquals(List.of(2, 1, 0, 3), rows(shop));
+    }
+
+    @Test
+    void emptyCartIsRefused() throws Exception {
+        checkout(shop, shop.getUserId(), shipperId, "India").andExpect(status().isCreated());
+
+        checkout(shop, shop.getUserId(), shipperId, "India").andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.message").value("Add item To the cart first......."));
+        assertEquals(List.of(3, 2, 1, 0), rows(shop));
+    }
+
+    @Test
+    void failedShippingInsertRollsBackOrderAndPayment() throws Exception {
+        // passes request validation but overflows shipping.country, the last insert of the checkout
+        checkout(shop, shop.getUserId(), shipperId, "x".repeat(300)).andExpect(status().isBadGateway());
+
+        assertEquals(List.of(2, 1, 0, 3), rows(shop));
+    }
+
+    private ResultActions checkout(ShopFixture caller, Integer userId, Integer shipper, String country) throws Exception {
+        String token = jwtTokenProvider.generateSessionToken(new UsernamePasswordAuthenticationToken(
+                caller.getCustomer().getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        String body = "{\"shipperId\":" + shipper + ",\"paymentMethod\":\"UPI\",\"address\":\"12A Main Street\","
+                + "\"city\":\"Hanoi\",\"state\":\"HN\",\"country\":\"" + country + "\",\"postalCode\":\"100000\"}";
+        return mockMvc.perform(post("/ecom/orders/checkout/" + userId).header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    /**
+     * Orders, payments, shipping rows and cart items of the fixture's customer
+     */
+    private List<Integer> rows(ShopFixture fixture) {
+        Integer userId = fixture.getUserId();
+        String orders = "SELECT order_id FROM orders WHERE user_id = ?";
+        return List.of(
+                count("SELECT count(*) FROM orders WHERE user_id = ?", userId),
+                count("SELECT count(*) FROM payments WHERE user_id = ?", userId),
+                count("SELECT count(*) FROM shipping WHERE order_id IN (" + orders + ")", userId),
+                count("SELECT count(*) FROM cart_items WHERE cart_id = ?", fixture.getCartId()));
+    }
+
+    private int count(String sql, Integer id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+}
@@ -0,0 +1,34 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exported customer fields are valid CSV and never open in a spreadsheet as a formula.
+ */
+class CustomerCsvTest {
+
+    @Test
+    void plainValuesAreWrittenAsIs() {
+        assertEquals("ada@example.com", CustomerController.csv("ada@example.com"));
+        assertEquals("", CustomerController.csv(null));
+        assertEquals("", CustomerController.csv(""));
+    }
+
+    @Test
+    void separatorsAndQuotesAreQuoted() {
+        assertEquals("\"Flat 4, Elm St\"", CustomerController.csv("Flat 4, Elm St"));
+        assertEquals("\"say \"\"hi\"\"\"", CustomerController.csv("say \"hi\""));
+    }
+
+    @Test
+    void formulaPrefixesAreNeutralized() {
+        assertEquals("\"'=HYPERLINK(\"\"http://evil\"\")\"", CustomerController.csv("=HYPERLINK(\"http://evil\")"));
+        assertEquals("'+91 98765 43210", CustomerController.csv("+91 98765 43210"));
+        assertEquals("'-2+3", CustomerController.csv("-2+3"));
+        assertEquals("'@SUM(A1)", CustomerController.csv("@SUM(A1)"));
+        assertEquals("'\tcmd", CustomerController.csv("\tcmd"));
+        assertEquals("\"'=1+1,2\"", CustomerController.csv("=1+1,2"));
+    }
+}
@@ -0,0 +1,120 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import Ecom.Support.ShopFixture;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * With open-in-view off, every read endpoint must serialize its entities from what the service
+ * loaded (a LazyInitializationException would turn into an error response) and do so in a
+ * fixed number of statements, independent of how many rows it returns.
+ * Runs against the configured PostgreSQL on a {@link ShopFixture}; the second-level cache is
+ * cleared before each request so the counts are the cold-cache cost.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointFetchPlanTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private Statistics statistics;
+
+    private ShopFixture shop;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        shop = new ShopFixture(context);
+    }
+
+    @AfterAll
+    void deleteRows() {
+        shop.delete();
+    }
+
+    @Test
+    void productListsFetchTheirReviewsInTheSameQuery() throws Exception {
+        expect("/ecom/products/all?keyword=" + shop.getProductName(), 1).andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].reviews.length()").value(2));
+        expect("/ecom/products/product-By-name/" + shop.getProductName(), 1).andExpect(jsonPath("$[2].reviews.length()").value(2));
+        expect("/ecom/products/category/" + shop.getCategory(), 1).andExpect(jsonPath("$.length()").value(3));
+        expect("/ecom/products/" + shop.getProducts().get(0).getProductId(), 1).andExpect(jsonPath("$.reviews.length()").value(2));
+    }
+
+    @Test
+    void cartViewLoadsItemsProductsAndReviews() throws Exception {
+        // cart + items + products, then the reviews of all its products in one batch
+        expect("/ecom/cart/products/" + shop.getCartId(), 2).andExpect(jsonPath("$.cartItems.length()").value(3))
+                .andExpect(jsonPath("$.cartItems[0].product.reviews.length()").value(2));
+    }
+
+    @Test
+    void orderEndpointsLoadTheOrderGraphOnce() throws Exception {
+        // order graph, then the customers' address lists in one batch
+        expect("/ecom/orders/" + shop.getPaidOrderId(), 2).andExpect(jsonPath("$.orderItem.length()").value(2))
+                .andExpect(jsonPath("$.user.address.length()").value(2))
+                .andExpect(jsonPath("$.payment.user.address.length()").value(2));
+        // plus the order archive lookup
+        expect("/ecom/orders/orders/" + shop.getUserId(), 3).andExpect(jsonPath("$.length()").value(2));
+        expect("/ecom/orders/all", 2);
+    }
+
+    @Test
+    void customerEndpointsLoadTheAddressList() throws Exception {
+        // user + addresses, plus the user's cart (an eager inverse one-to-one)
+        expect("/ecom/customers/" + shop.getUserId(), 2).andExpect(jsonPath("$.address.length()").value(2));
+        expect("/ecom/customer-addresses/" + shop.getUserId(), 1).andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void reviewListingIsOneQueryPlusTheProductLookup() throws Exception {
+        expect("/ecom/product-reviews/" + shop.getProducts().get(1).getProductId(), 2).andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void missesAnswerWithEmptyLists() throws Exception {
+        String unknown = "missing-" + shop.getTag();
+        expect("/ecom/products/category/" + unknown, 1).andExpect(jsonPath("$.length()").value(0));
+        expect("/ecom/products/product-By-name/" + unknown, 1).andExpect(jsonPath("$.length()").value(0));
+        expect("/ecom/products/all?keyword=" + unknown, 1).andExpect(jsonPath("$.length()").value(0));
+    }
+
+    /**
+     * GET the endpoint and assert it answers 200 using at most the given number of statements
+     */
+    private ResultActions expect(String url, long maxStatements) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        ResultActions result = mockMvc.perform(get(url).header("Authorization", "Bearer " + shop.getToken()))
+                .andExpect(status().isOk());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= maxStatements,
+                url + " ran " + statements + " statements, expected at most " + maxStatements);
+        return result;
+    }
+}
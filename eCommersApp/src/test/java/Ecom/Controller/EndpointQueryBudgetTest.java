@@ -0,0 +1,140 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import Ecom.Service.CartService;
+import Ecom.Support.QueryBudget;
+import Ecom.Support.ShopFixture;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement and row budgets of the hot endpoints, measured on a freshly seeded {@link ShopFixture}
+ * (three products, two orders, a three item cart) with a cold second-level cache.
+ * A budget failure lists the SQL that ran: an N+1 shows up as the same statement repeated.
+ * This is the one place endpoint rows are budgeted; EndpointFetchPlanTest only checks that each
+ * response is served from what the service loaded.
+ * Rows are the rows returned by queries, so they grow with the seeded data, not with unrelated tables.
+ */
+@SpringBootTest(properties = QueryBudget.INSPECTOR)
+@AutoConfigureMockMvc
+@Import(QueryBudget.RowCounting.class)
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private ShopFixture shop;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        shop.delete();
+    }
+
+    @Test
+    void productSearch() throws Exception {
+        // products joined with their reviews: 3 products x 2 reviews
+        perform(get("/ecom/products/all").param("keyword", shop.getProductName()))
+                .assertWithin("product search", 1, 6);
+        perform(get("/ecom/products/category/" + shop.getCategory()))
+                .assertWithin("category listing", 1, 6);
+    }
+
+    @Test
+    void cartView() throws Exception {
+        // cart x items x products (3 rows), then the 6 reviews of those products in one batch
+        perform(get("/ecom/cart/products/" + shop.getCartId())).assertWithin("cart view", 2, 9);
+    }
+
+    @Test
+    void placeOrder() throws Exception {
+        // user + cart, order insert, cart items, 3 order lines, cart clear, cart and order update,
+        // 3 order line links; rows are the user joined with its cart, then the 3 cart items
+        QueryBudget.Usage threeItems = perform(post("/ecom/orders/placed/" + shop.getUserId()))
+                .assertWithin("placeOrder, 3 items", 12, 4);
+
+        ShopFixture single = new ShopFixture(context);
+        try {
+            single.getProducts().subList(1, 3).forEach(product -> context.getBean(CartService.class)
+                    .removeProductFromCart(single.getCartId(), product.getProductId()));
+            QueryBudget.Usage oneItem = perform(post("/ecom/orders/placed/" + single.getUserId()), single)
+                    .assertWithin("placeOrder, 1 item", 8, 2);
+
+            // the inserts grow with the cart, the reads must not
+            assertEquals(oneItem.getReads(), threeItems.getReads(),
+                    "placeOrder reads grew with the cart:\n" + oneItem.getStatements() + "\n" + threeItems.getStatements());
+            assertTrue(threeItems.getStatements().size() > oneItem.getStatements().size());
+        } finally {
+            single.delete();
+        }
+    }
+
+    @Test
+    void orderHistory() throws Exception {
+        // 2 orders with 3 lines between them, the customer's addresses, an empty archive lookup
+        perform(get("/ecom/orders/orders/" + shop.getUserId())).assertWithin("order history", 3, 5);
+    }
+
+    @Test
+    void reviewListing() throws Exception {
+        // the product, then its 2 reviews
+        perform(get("/ecom/product-reviews/" + shop.getProducts().get(0).getProductId()))
+                .assertWithin("review listing", 2, 3);
+    }
+
+    @Test
+    void budgetsSeeEveryStatementHibernateRuns() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        QueryBudget.Usage usage = QueryBudget.measure(() -> mockMvc
+                .perform(get("/ecom/orders/" + shop.getPaidOrderId()).header("Authorization", "Bearer " + shop.getToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderItem.length()").value(2)));
+
+        assertEquals(statistics.getPrepareStatementCount(), usage.getStatements().size());
+    }
+
+    /**
+     * Run one authenticated request on a cold second-level cache and return what it cost
+     */
+    private QueryBudget.Usage perform(MockHttpServletRequestBuilder request) throws Exception {
+        return perform(request, shop);
+    }
+
+    private QueryBudget.Usage perform(MockHttpServletRequestBuilder request, ShopFixture caller) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        return QueryBudget.measure(() -> mockMvc
+                .perform(request.header("Authorization", "Bearer " + caller.getToken()))
+                .andExpect(status().isOk()));
+    }
+}
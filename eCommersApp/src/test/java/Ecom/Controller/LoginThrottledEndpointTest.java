@@ -0,0 +1,99 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import Ecom.Exception.LoginThrottledException;
+import Ecom.Repository.UserRepository;
+import Ecom.Support.SaturatedPasswordEncoder;
+import Ecom.Support.ShopFixture;
+
+/**
+ * With the password hashing pool saturated, HTTP Basic sign-in (LoginThrottledEntryPoint) and
+ * signup (GlobalExceptionhandler) both answer 429 with Retry-After. The application's encoder
+ * is replaced by one backed by a saturated {@link Ecom.SecurityConfig.BoundedPasswordEncoder}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginThrottledEndpointTest {
+
+    private static final String RETRY_AFTER = String.valueOf(LoginThrottledException.RETRY_AFTER_SECONDS);
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SaturatedPasswordEncoder saturated;
+
+    private ShopFixture shop;
+
+    @BeforeEach
+    void saturate() throws Exception {
+        saturated = new SaturatedPasswordEncoder();
+        when(passwordEncoder.matches(any(), anyString()))
+                .thenAnswer(call -> saturated.getEncoder().matches(call.getArgument(0), call.getArgument(1)));
+        when(passwordEncoder.encode(any()))
+                .thenAnswer(call -> saturated.getEncoder().encode(call.getArgument(0)));
+        shop = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void release() {
+        shop.delete();
+        saturated.close();
+    }
+
+    @Test
+    void basicSignInIsThrottled() throws Exception {
+        String credentials = Base64.getEncoder().encodeToString(
+                (shop.getCustomer().getEmail() + ":secret1").getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/ecom/signIn").header(HttpHeaders.AUTHORIZATION, "Basic " + credentials))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, RETRY_AFTER));
+    }
+
+    @Test
+    void signupIsThrottled() throws Exception {
+        String email = "throttled-" + shop.getTag() + "@example.com";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"secret1\",\"firstName\":\"Late\","
+                + "\"lastName\":\"Customer\",\"phoneNumber\":\"0123456789\"}";
+
+        mockMvc.perform(post("/ecom/customers").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, RETRY_AFTER))
+                .andExpect(jsonPath("$.message").value("Too many concurrent logins, retry shortly"));
+        assertTrue(userRepository.findByEmail(email).isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package Ecom.Controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import Ecom.Entity.UserPermission.PermissionType;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.Service.PermissionService;
+import Ecom.Support.ShopFixture;
+
+/**
+ * A user may read and check only their own permissions; ADMIN may read anyone's.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PermissionEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private ShopFixture shop;
+
+    private ShopFixture other;
+
+    private String userToken;
+
+    @BeforeAll
+    void seed() {
+        shop = new ShopFixture(context);
+        other = new ShopFixture(context);
+        context.getBean(PermissionService.class).grantPermission(shop.getUserId().longValue(), "PRODUCTS",
+                PermissionType.READ, null);
+        userToken = jwtTokenProvider.generateSessionToken(new UsernamePasswordAuthenticationToken(
+                shop.getCustomer().getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterAll
+    void deleteRows() {
+        shop.delete();
+        other.delete();
+    }
+
+    @Test
+    void usersSeeTheirOwnPermissions() throws Exception {
+        mockMvc.perform(get("/ecom/auth/permissions/" + shop.getUserId()).header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.permissions.length()").value(1));
+        mockMvc.perform(get("/ecom/auth/permissions/" + shop.getUserId() + "/check?resource=PRODUCTS&permission=READ")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.allowed").value(true));
+    }
+
+    @Test
+    void usersCannotProbeOtherUsers() throws Exception {
+        mockMvc.perform(get("/ecom/auth/permissions/" + other.getUserId()).header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/ecom/auth/permissions/" + other.getUserId() + "/check?resource=PRODUCTS&permission=READ")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminsCanReadAnyone() throws Exception {
+        mockMvc.perform(get("/ecom/auth/permissions/" + shop.getUserId()).header("Authorization", "Bearer " + other.getToken()))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.permissions.length()").value(1));
+        mockMvc.perform(get("/ecom/auth/permissions/" + shop.getUserId() + "/check?resource=ORDERS&permission=READ")
+                .header("Authorization", "Bearer " + other.getToken()))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.allowed").value(false));
+    }
+}
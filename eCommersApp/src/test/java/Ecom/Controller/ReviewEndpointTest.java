@@ -0,0 +1,82 @@
+package Ecom.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import Ecom.Support.ShopFixture;
+
+/**
+ * A review POST is validated like the PUT: a rating outside 1..5 is answered with the rating
+ * message before any lookup or insert, and nothing is stored.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReviewEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ShopFixture shop;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        shop.delete();
+    }
+
+    @Test
+    void ratingWithinBoundsIsStored() throws Exception {
+        addReview(5).andExpect(status().isOk()).andExpect(jsonPath("$.rating").value(5));
+
+        assertEquals(7, reviews());
+    }
+
+    @Test
+    void ratingOutOfBoundsIsRefused() throws Exception {
+        addReview(6).andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.message").value("Rating should be between 1 and 5"));
+        addReview(0).andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.message").value("Rating should be between 1 and 5"));
+
+        assertEquals(6, reviews());
+    }
+
+    private ResultActions addReview(int rating) throws Exception {
+        return mockMvc.perform(post("/ecom/product-reviews/" + shop.getProducts().get(0).getProductId() + "/"
+                + shop.getUserId()).header("Authorization", "Bearer " + shop.getToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":" + rating + ",\"comment\":\"rated " + rating + "\"}"));
+    }
+
+    /**
+     * Reviews written by the fixture's customer; the fixture seeds two per product
+     */
+    private int reviews() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM reviews WHERE user_id = ?", Integer.class,
+                shop.getUserId());
+    }
+}
@@ -0,0 +1,130 @@
+package Ecom.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+/**
+ * The hot repository queries must be answerable from the indexes the migrations create.
+ * Runs against the configured PostgreSQL (same database as EcomApplicationTests), migrated by
+ * Flyway. Sequential scans are disabled for the transaction so the planner reveals whether an
+ * index can serve the query at all, independent of how many rows the local tables hold.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    static Stream<Arguments> indexedQueries() {
+        return Stream.of(
+                // CartItemRepository: cart contents and removals
+                Arguments.of("idx_cart_items_cart", "SELECT * FROM cart_items WHERE cart_id = 1"),
+                // Orders.orderItem join table
+                Arguments.of("idx_orders_order_item_order", "SELECT * FROM orders_order_item WHERE orders_order_id = 1"),
+                Arguments.of("idx_order_item_order", "SELECT * FROM order_item WHERE order_id = 1"),
+                // OrderRepository.getAllOrderByUserId
+                Arguments.of("idx_orders_user_date", "SELECT * FROM orders WHERE user_id = 1"),
+                // ReviewRepository.findAllReviewsByProductId
+                Arguments.of("idx_reviews_product", "SELECT * FROM reviews WHERE product_id = 1"),
+                // AddressRepository.getUserAddressList / findLatestAddresses
+                Arguments.of("idx_address_user", "SELECT * FROM address WHERE userid = 1"),
+                // UserPermissionRepository.findByUserIdAndActiveTrue
+                Arguments.of("idx_user_permissions_user_active",
+                        "SELECT * FROM user_permissions WHERE user_id = 1 AND active = true"),
+                // UserSearchRepositoryImpl prefix filters
+                Arguments.of("idx_users_email_lower", "SELECT * FROM users WHERE lower(email) LIKE 'ali%'"),
+                Arguments.of("idx_users_last_name_lower", "SELECT * FROM users WHERE lower(last_name) LIKE 'sm%'"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("indexedQueries")
+    void queryUsesIndex(String index, String sql) {
+        assertUsesIndex(index, sql);
+    }
+
+    /**
+     * Admin order search for stuck PENDING orders. On a small analyzed table every orders index
+     * costs the same and the planner picks any of them, so the plan is taken on a realistic
+     * status distribution (inserted in the test transaction and rolled back).
+     */
+    @Test
+    void stuckOrderSearchUsesStatusDateIndex() {
+        jdbcTemplate.update("INSERT INTO orders (total_amount, order_date, status) "
+                + "SELECT 10, now() - make_interval(hours => g), "
+                + "CASE WHEN g % 50 = 0 THEN 'PENDING' ELSE 'DELIVERED' END FROM generate_series(1, 5000) g");
+        jdbcTemplate.execute("ANALYZE orders");
+        assertUsesIndex("idx_orders_status_date", "SELECT * FROM orders WHERE status = 'PENDING' AND order_date < now()");
+    }
+
+    /**
+     * A search page (OrderSearchRepositoryImpl.searchOrders) is keyed on (order_date, order_id),
+     * the trailing columns of the status index, so it is read in index order: no sort of all matches.
+     */
+    @Test
+    void searchPageIsReadInIndexOrder() {
+        jdbcTemplate.update("INSERT INTO orders (total_amount, order_date, status) "
+                + "SELECT 10, now() - make_interval(hours => g), "
+                + "CASE WHEN g % 50 = 0 THEN 'PENDING' ELSE 'DELIVERED' END FROM generate_series(1, 5000) g");
+        jdbcTemplate.execute("ANALYZE orders");
+        String page = "SELECT * FROM orders WHERE status = 'PENDING' AND order_date <= now() "
+                + "AND (order_date < now() OR order_id < 100) ORDER BY order_date DESC, order_id DESC LIMIT 21";
+        assertUsesIndex("idx_orders_status_date", page);
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + page, String.class);
+        assertTrue(plan.stream().noneMatch(line -> line.contains("Sort")), () -> String.join("\n", plan));
+    }
+
+    /**
+     * Row estimates are not rolled back with the inserted rows
+     */
+    @AfterTransaction
+    void reanalyzeOrders() {
+        jdbcTemplate.execute("ANALYZE orders");
+    }
+
+    static Stream<Arguments> trigramQueries() {
+        return Stream.of(
+                // ProductRepository.findAllByNameContainingIgnoreCase
+                Arguments.of("idx_products_name_upper_trgm",
+                        "SELECT * FROM products WHERE upper(name) LIKE upper('%phone%')"),
+                // ProductRepository.findByName
+                Arguments.of("idx_products_name_trgm", "SELECT * FROM products WHERE name LIKE '%phone%'"),
+                // ProductRepository.getProductCategoryName
+                Arguments.of("idx_products_category_trgm",
+                        "SELECT * FROM products WHERE category_name LIKE '%elec%'"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trigramQueries")
+    void substringSearchUsesTrigramIndex(String index, String sql) {
+        Integer installed = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+        assumeTrue(installed != null && installed > 0, "pg_trgm is not installed in this database");
+        assertUsesIndex(index, sql);
+    }
+
+    private void assertUsesIndex(String index, String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        assertTrue(plan.stream().anyMatch(line -> line.contains(index)),
+                () -> "expected " + index + " in plan of " + sql + "\n" + String.join("\n", plan));
+    }
+}
@@ -0,0 +1,138 @@
+package Ecom.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import Ecom.Model.Product;
+import Ecom.Model.Shipper;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Product and Shipper reads are served from the second-level cache once loaded, and writes
+ * through the application are visible to the next read. Runs against the configured PostgreSQL;
+ * every repository call is its own transaction and persistence context, as in the services.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ShipperRepository shipperRepository;
+
+    private Statistics statistics;
+
+    private final List<Integer> productIds = new ArrayList<>();
+
+    private final List<Integer> shipperIds = new ArrayList<>();
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void deleteRows() {
+        productRepository.deleteAllById(productIds);
+        shipperRepository.deleteAllById(shipperIds);
+    }
+
+    @Test
+    void repeatedProductReadsHitTheCache() {
+        Integer id = saveProduct("Cache Test Lamp", 25.0);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        assertEquals("Cache Test Lamp", productRepository.findById(id).orElseThrow().getName());
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals("Cache Test Lamp", productRepository.findById(id).orElseThrow().getName());
+        assertEquals("Cache Test Lamp", productRepository.findById(id).orElseThrow().getName());
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("product");
+        assertEquals(1, region.getMissCount());
+        assertEquals(2, region.getHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount(), "cached reads must not query the database");
+    }
+
+    @Test
+    void productUpdateIsVisibleToTheNextRead() {
+        Integer id = saveProduct("Cache Test Chair", 40.0);
+        productRepository.findById(id).orElseThrow();
+
+        Product product = productRepository.findById(id).orElseThrow();
+        product.setPrice(55.0);
+        productRepository.save(product);
+
+        assertEquals(55.0, productRepository.findById(id).orElseThrow().getPrice());
+    }
+
+    @Test
+    void shipperListComesFromTheQueryCacheUntilAShipperChanges() {
+        saveShipper("Cache Test Freight");
+
+        int before = shipperRepository.findAll().size();
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(before, shipperRepository.findAll().size());
+        assertEquals(statements, statistics.getPrepareStatementCount(), "cached list must not query the database");
+        assertTrue(statistics.getQueryCacheHitCount() >= 1);
+
+        saveShipper("Cache Test Couriers");
+
+        List<Shipper> after = shipperRepository.findAll();
+        assertEquals(before + 1, after.size());
+        assertTrue(after.stream().anyMatch(shipper -> "Cache Test Couriers".equals(shipper.getName())));
+    }
+
+    @Test
+    void shipperLookupsHitTheCache() {
+        Integer id = saveShipper("Cache Test Express");
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        shipperRepository.findById(id).orElseThrow();
+        shipperRepository.findById(id).orElseThrow();
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("shipper");
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getHitCount());
+    }
+
+    private Integer saveProduct(String name, double price) {
+        Product product = new Product();
+        product.setName(name);
+        product.setImageUrl("https://example.com/cache-test.png");
+        product.setDescription("second-level cache test row");
+        product.setPrice(price);
+        product.setCategory("cache-test");
+        Integer id = productRepository.save(product).getProductId();
+        productIds.add(id);
+        return id;
+    }
+
+    private Integer saveShipper(String name) {
+        Shipper shipper = new Shipper();
+        shipper.setName(name);
+        shipper.setPhoneNumber("0123456789");
+        Integer id = shipperRepository.save(shipper).getShipperId();
+        shipperIds.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,81 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The revocation denylist relies on mightContain never answering false for an inserted id;
+ * false positives only cost a database check and stay near the configured rate.
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 50_000;
+
+    @Test
+    void neverAnswersFalseForAnInsertedValue() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        List<String> ids = ids(INSERTIONS);
+        ids.forEach(filter::put);
+
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id), id);
+        }
+    }
+
+    @Test
+    void overfilledFilterStillHasNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        List<String> ids = ids(INSERTIONS);
+        ids.forEach(filter::put);
+
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void concurrentInsertsAreAllVisible() throws Exception {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        List<String> ids = ids(INSERTIONS);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                List<String> slice = ids.subList(t * INSERTIONS / 8, (t + 1) * INSERTIONS / 8);
+                writers.add(pool.submit(() -> slice.forEach(filter::put)));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        ids(INSERTIONS).forEach(filter::put);
+
+        long falsePositives = ids(INSERTIONS).stream().filter(filter::mightContain).count();
+        double rate = (double) falsePositives / INSERTIONS;
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+    }
+
+    private static List<String> ids(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
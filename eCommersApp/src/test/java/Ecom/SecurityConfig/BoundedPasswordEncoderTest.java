@@ -0,0 +1,42 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import Ecom.Exception.LoginThrottledException;
+import Ecom.Support.SaturatedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Hashes run on the bounded pool; once its threads and queue are taken, further calls are
+ * refused at once with {@link LoginThrottledException} instead of waiting.
+ */
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void hashesGoThroughToTheDelegate() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+                new SimpleMeterRegistry());
+        try {
+            String hash = encoder.encode("secret");
+            assertTrue(encoder.matches("secret", hash));
+            assertFalse(encoder.matches("guess", hash));
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void fullQueueIsRefused() throws Exception {
+        try (SaturatedPasswordEncoder saturated = new SaturatedPasswordEncoder()) {
+            assertThrows(LoginThrottledException.class, () -> saturated.getEncoder().matches("guess", "hash"));
+            assertThrows(LoginThrottledException.class, () -> saturated.getEncoder().encode("secret"));
+            assertEquals(2, saturated.getRejected());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Ecom.Service.RefreshTokenService;
+import Ecom.Support.ShopFixture;
+
+/**
+ * Bearer tokens on user routes must be access (or session) tokens whose refresh token is still
+ * live; refresh and middleware tokens only work on their own endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JwtAuthenticationFilterTest {
+
+    private static final String USER_ROUTE = "/ecom/orders/all";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ShopFixture shop;
+
+    private Authentication customer;
+
+    @BeforeAll
+    void seed() {
+        shop = new ShopFixture(context);
+        customer = new UsernamePasswordAuthenticationToken(shop.getCustomer().getEmail(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @AfterAll
+    void deleteRows() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE username = ?", shop.getCustomer().getEmail());
+        shop.delete();
+    }
+
+    @Test
+    void accessAndSessionTokensAreAccepted() throws Exception {
+        String refresh = refreshTokenService.issue(customer.getName());
+        expectStatus(tokenProvider.generateAccessToken(customer, jti(refresh)), 200);
+        expectStatus(shop.getToken(), 200);
+    }
+
+    @Test
+    void refreshAndMiddlewareTokensAreRefused() throws Exception {
+        expectStatus(refreshTokenService.issue(customer.getName()), 401);
+        expectStatus(tokenProvider.generateMiddlewareToken(customer.getName(), new String[] { "orders:read" }), 401);
+    }
+
+    @Test
+    void revokingTheRefreshTokenRevokesItsAccessTokens() throws Exception {
+        String refresh = refreshTokenService.issue(customer.getName());
+        String access = tokenProvider.generateAccessToken(customer, jti(refresh));
+        expectStatus(access, 200);
+
+        refreshTokenService.revoke(refresh);
+        expectStatus(access, 401);
+    }
+
+    @Test
+    void refreshEndpointIsOpenAndRotatesTheSession() throws Exception {
+        String refresh = refreshTokenService.issue(customer.getName());
+        String access = tokenProvider.generateAccessToken(customer, jti(refresh));
+
+        String body = mockMvc.perform(post("/ecom/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refresh + "\"}"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+
+        assertNotEquals(refresh, response.get("refreshToken").asText());
+        expectStatus(response.get("accessToken").asText(), 200);
+        // the old refresh token is used up, and so is the access token issued with it
+        expectStatus(access, 401);
+    }
+
+    private void expectStatus(String token, int expected) throws Exception {
+        mockMvc.perform(get(USER_ROUTE).header("Authorization", "Bearer " + token))
+                .andExpect(status().is(expected));
+    }
+
+    private String jti(String refreshToken) {
+        return tokenProvider.verify(refreshToken).getJwtId();
+    }
+}
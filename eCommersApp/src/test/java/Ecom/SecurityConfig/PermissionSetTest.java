@@ -0,0 +1,64 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import Ecom.Entity.UserPermission;
+import Ecom.Entity.UserPermission.PermissionType;
+import Ecom.Enum.PermissionResource;
+
+/**
+ * The bitset answers exactly what was granted, for every (resource, type) slot, and ignores
+ * resource names outside PermissionResource.
+ */
+class PermissionSetTest {
+
+    @Test
+    void everySlotRoundTrips() {
+        for (PermissionResource resource : PermissionResource.values()) {
+            for (PermissionType type : PermissionType.values()) {
+                PermissionSet set = PermissionSet.of(List.of(grant(resource.name(), type)));
+                for (PermissionResource otherResource : PermissionResource.values()) {
+                    for (PermissionType otherType : PermissionType.values()) {
+                        assertEquals(otherResource == resource && otherType == type, set.has(otherResource, otherType),
+                                resource + "/" + type + " granted, asked " + otherResource + "/" + otherType);
+                    }
+                }
+                assertEquals(List.of(Map.entry(resource.name(), type)), set.entries());
+            }
+        }
+    }
+
+    @Test
+    void fullGrantDecodesEveryEntry() {
+        List<UserPermission> all = new ArrayList<>();
+        for (PermissionResource resource : PermissionResource.values()) {
+            for (PermissionType type : PermissionType.values()) {
+                all.add(grant(resource.name(), type));
+            }
+        }
+        PermissionSet set = PermissionSet.of(all);
+        assertEquals(all.size(), set.entries().size());
+        assertTrue(set.has("SHIPPING", PermissionType.ADMIN));
+    }
+
+    @Test
+    void unknownResourcesGrantNothing() {
+        PermissionSet set = PermissionSet.of(List.of(grant("LEGACY_TABLE", PermissionType.READ)));
+        assertTrue(set.isEmpty());
+        assertFalse(set.has("LEGACY_TABLE", PermissionType.READ));
+        assertFalse(PermissionSet.EMPTY.has("PRODUCTS", PermissionType.READ));
+        assertFalse(PermissionSet.EMPTY.has((String) null, PermissionType.READ));
+    }
+
+    private static UserPermission grant(String resourceName, PermissionType type) {
+        return UserPermission.builder().resourceName(resourceName).permissionType(type).active(true).build();
+    }
+}
@@ -0,0 +1,125 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import Ecom.Config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Login attempts are limited per client address and per account, both in the stage that runs
+ * before any password is checked; the login body still reaches the controller intact.
+ */
+class RateLimitFilterTest {
+
+    private final RateLimitFilter preAuthentication = filter(RateLimitFilter.Stage.PRE_AUTHENTICATION);
+
+    @Test
+    void oneAccountIsThrottledAcrossAddresses() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, login("10.0.0." + i, "victim@example.com").getStatus());
+        }
+        MockHttpServletResponse refused = login("10.0.0.99", "Victim@Example.com");
+        assertEquals(429, refused.getStatus());
+        assertEquals("60", refused.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void oneAddressIsThrottledAcrossAccounts() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, login("10.0.1.1", "user" + i + "@example.com").getStatus());
+        }
+        assertEquals(429, login("10.0.1.1", "another@example.com").getStatus());
+    }
+
+    @Test
+    void basicSignInIsKeyedByUserName() throws Exception {
+        String credentials = Base64.getEncoder().encodeToString("victim@example.com:guess".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 6; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ecom/signIn");
+            request.setServletPath("/ecom/signIn");
+            request.setRemoteAddr("10.0.2." + i);
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            preAuthentication.doFilter(request, response, (req, res) -> { });
+
+            assertEquals(i < 5 ? 200 : 429, response.getStatus());
+        }
+    }
+
+    @Test
+    void loginBodyIsReplayedToTheController() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        preAuthentication.doFilter(loginRequest("10.0.3.1", "reader@example.com"), new MockHttpServletResponse(),
+                (req, res) -> seen.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+        assertEquals(body("reader@example.com"), seen.get());
+    }
+
+    @Test
+    void userKeyedRoutesAreLeftToTheLaterStage() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/ecom/orders/placed/1");
+            request.setServletPath("/ecom/orders/placed/1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            preAuthentication.doFilter(request, response, (req, res) -> { });
+
+            assertEquals(200, response.getStatus());
+        }
+        assertNull(RateLimitFilter.account(new MockHttpServletRequest("POST", "/ecom/orders/placed/1")));
+    }
+
+    private MockHttpServletResponse login(String address, String email) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        preAuthentication.doFilter(loginRequest(address, email), response, (req, res) -> req.getInputStream().readAllBytes());
+        return response;
+    }
+
+    private static MockHttpServletRequest loginRequest(String address, String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/ecom/auth/login");
+        request.setServletPath("/ecom/auth/login");
+        request.setRemoteAddr(address);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body(email).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String body(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"guess\"}";
+    }
+
+    private static RateLimitFilter filter(RateLimitFilter.Stage stage) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(
+                route("POST", "/ecom/auth/login", RateLimitProperties.KeyType.IP, 10),
+                route("POST", "/ecom/auth/login", RateLimitProperties.KeyType.ACCOUNT, 5),
+                route("GET", "/ecom/signIn", RateLimitProperties.KeyType.IP, 10),
+                route("GET", "/ecom/signIn", RateLimitProperties.KeyType.ACCOUNT, 5),
+                route("POST", "/ecom/orders/placed/**", RateLimitProperties.KeyType.USER, 5)));
+        return new RateLimitFilter(new TokenBucketRateLimiter(1_000, 10, TimeUnit.MINUTES), properties,
+                new SimpleMeterRegistry(), stage);
+    }
+
+    private static RateLimitProperties.Route route(String method, String pattern, RateLimitProperties.KeyType key,
+                                                   int capacity) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setMethod(method);
+        route.setPattern(pattern);
+        route.setKey(key);
+        route.setCapacity(capacity);
+        route.setRefillPerMinute(1);
+        return route;
+    }
+}
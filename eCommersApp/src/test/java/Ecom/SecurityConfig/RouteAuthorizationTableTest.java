@@ -0,0 +1,146 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+/**
+ * The compiled table must pick the same rule as the ordered AntPathRequestMatcher chain
+ * it replaced, for every rule in AppConfig.
+ */
+class RouteAuthorizationTableTest {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "HEAD"};
+
+    private final RouteAuthorizationTable table = new AppConfig(null, null, null).routeAuthorizationTable();
+
+    @Test
+    void matchesSameRuleAsLinearMatcherChain() {
+        List<RouteAuthorizationTable.Rule> rules = table.getRules();
+        List<AntPathRequestMatcher> matchers = new ArrayList<>();
+        for (RouteAuthorizationTable.Rule rule : rules) {
+            matchers.add(new AntPathRequestMatcher(rule.getPattern(),
+                    rule.getMethod() != null ? rule.getMethod().name() : null));
+        }
+
+        int checked = 0;
+        for (String path : samplePaths(rules)) {
+            for (String method : METHODS) {
+                MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+                request.setServletPath(path);
+
+                int expected = table.getFallback().getOrder();
+                for (int i = 0; i < matchers.size(); i++) {
+                    if (matchers.get(i).matches(request)) {
+                        expected = i;
+                        break;
+                    }
+                }
+                assertEquals(expected, table.match(method, path).getOrder(), method + " " + path);
+                checked++;
+            }
+        }
+        assertTrue(checked >= rules.size() * METHODS.length,
+                "only " + checked + " method/path combinations checked for " + rules.size() + " rules");
+    }
+
+    @ParameterizedTest(name = "{0} {1} as {2} -> {3}")
+    @CsvSource({
+            "POST,   /ecom/admin,                     ANONYMOUS, true",
+            "POST,   /ecom/customers,                 ANONYMOUS, true",
+            "GET,    /ecom/products/all,              ANONYMOUS, true",
+            "GET,    /ecom/product-reviews/3,         ANONYMOUS, true",
+            "GET,    /ecom/signIn,                    ANONYMOUS, false",
+            "GET,    /ecom/signIn,                    USER,      true",
+            "POST,   /ecom/auth/login,                ANONYMOUS, true",
+            "POST,   /ecom/auth/refresh,              ANONYMOUS, true",
+            "POST,   /ecom/auth/introspect,           ANONYMOUS, false",
+            "POST,   /ecom/auth/introspect,           USER,      true",
+            "POST,   /ecom/products/insert,           ANONYMOUS, false",
+            "POST,   /ecom/product/add,               USER,      false",
+            "POST,   /ecom/product/add,               ADMIN,     true",
+            "POST,   /ecom/cart/add-product,          USER,      true",
+            "POST,   /ecom/cart/add-product,          ADMIN,     false",
+            "POST,   /ecom/orders/checkout/1,         USER,      true",
+            "PUT,    /ecom/orders/admin/status/bulk,  USER,      false",
+            "PUT,    /ecom/orders/admin/status/bulk,  ADMIN,     true",
+            "GET,    /ecom/orders/admin/search,       USER,      false",
+            "GET,    /ecom/orders/admin/search,       ADMIN,     true",
+            "GET,    /ecom/customers/get-all-customer, USER,     false",
+            "GET,    /ecom/customers/get-all-customer, ADMIN,    true",
+            "GET,    /ecom/customers/get-all-customer/export, ADMIN, true",
+            "GET,    /ecom/customers/7,               USER,      true",
+            "GET,    /ecom/orders/users/1,            USER,      true",
+            "GET,    /ecom/orders/users/1,            ANONYMOUS, false",
+            "DELETE, /ecom/orders/users/1,            ANONYMOUS, true",
+            "DELETE, /ecom/products/1,                USER,      false",
+            "DELETE, /ecom/cart/remove-product/1,     USER,      true",
+            "GET,    /ecom/order-shippers,            USER,      true",
+            "GET,    /ecom/order-shippers/1,          USER,      true",
+            "GET,    /ecom/order-shippers/1,          ANONYMOUS, false",
+            "GET,    /,                               ANONYMOUS, true",
+            "GET,    /error,                          ANONYMOUS, true",
+            "GET,    /actuator/health,                ANONYMOUS, true",
+            "GET,    /actuator/metrics/ecom.service,  ANONYMOUS, false",
+            "GET,    /actuator/metrics/ecom.service,  USER,      false",
+            "GET,    /actuator/metrics,               ADMIN,     true",
+            "POST,   /actuator/loggers/Ecom.ServiceImpl, USER,   false",
+            "POST,   /actuator/loggers/Ecom.ServiceImpl, ADMIN,  true",
+            "GET,    /swagger-ui/index.html,          ANONYMOUS, true",
+            "GET,    /swagger-ui.html,                ANONYMOUS, true",
+            "GET,    /v3/api-docs,                    ANONYMOUS, true",
+            "PATCH,  /ecom/anything,                  ANONYMOUS, false",
+            "PATCH,  /ecom/anything,                  USER,      true",
+    })
+    void decisions(String method, String path, String principal, boolean allowed) {
+        assertEquals(allowed, table.match(method, path).permits(authentication(principal)));
+    }
+
+    /**
+     * For each rule: the pattern itself, one and two levels below it, a trailing slash,
+     * a sibling sharing its prefix and a case variant. Request paths always start with "/",
+     * so a pattern without one (ecom/products/insert) is sampled in its "/" form.
+     */
+    private static Set<String> samplePaths(List<RouteAuthorizationTable.Rule> rules) {
+        Set<String> paths = new LinkedHashSet<>(List.of("/", "", "/unknown", "/ecom", "/ecom/", "/swagger-ui.html"));
+        for (RouteAuthorizationTable.Rule rule : rules) {
+            String pattern = rule.getPattern();
+            String base = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : pattern;
+            if (!base.startsWith("/")) {
+                base = "/" + base;
+            }
+            for (String concrete : List.of(base.replace("*", ""), base.replace("*", "-x"))) {
+                paths.add(concrete);
+                paths.add(concrete + "/");
+                paths.add(concrete + "/1");
+                paths.add(concrete + "/a/b");
+                paths.add(concrete + "x");
+                paths.add(concrete.toUpperCase());
+            }
+        }
+        return paths;
+    }
+
+    private static Authentication authentication(String principal) {
+        if (principal.equals("ANONYMOUS")) {
+            return new AnonymousAuthenticationToken("key", "anonymousUser",
+                    AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+        }
+        return new UsernamePasswordAuthenticationToken("user@example.com", null,
+                AuthorityUtils.createAuthorityList("ROLE_" + principal));
+    }
+}
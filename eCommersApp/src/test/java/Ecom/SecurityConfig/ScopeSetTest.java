@@ -0,0 +1,64 @@
+package Ecom.SecurityConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compiled scopes answer exactly what was granted, across several words of the bitmask, and
+ * a scope no token was ever granted can be neither held nor required. Scope names are unique
+ * per test because the registry is process-wide.
+ */
+class ScopeSetTest {
+
+    private final String prefix = "scope-" + Long.toString(System.nanoTime(), 36) + ":";
+
+    @Test
+    void grantedScopesRoundTrip() {
+        // more than 64 names, so the set spans several words
+        List<String> granted = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            granted.add(prefix + i);
+        }
+        ScopeSet set = ScopeSet.of(granted);
+
+        assertEquals(granted, set.names());
+        for (String scope : granted) {
+            assertTrue(set.has(scope), scope);
+            assertTrue(set.containsAll(ScopeSet.required(List.of(scope))), scope);
+        }
+        assertTrue(set.containsAll(ScopeSet.required(granted)));
+    }
+
+    @Test
+    void missingScopeIsNotContained() {
+        ScopeSet read = ScopeSet.of(List.of(prefix + "read"));
+        ScopeSet readWrite = ScopeSet.of(List.of(prefix + "read", prefix + "write"));
+
+        assertFalse(read.has(prefix + "write"));
+        assertFalse(read.containsAll(ScopeSet.required(List.of(prefix + "read", prefix + "write"))));
+        assertTrue(readWrite.containsAll(ScopeSet.required(List.of(prefix + "write", prefix + "read"))));
+        assertEquals(List.of(prefix + "read"), read.names());
+    }
+
+    @Test
+    void unknownScopesGrantNothing() {
+        ScopeSet set = ScopeSet.of(List.of(prefix + "read"));
+
+        assertFalse(set.has(prefix + "unknown"));
+        assertNull(ScopeSet.required(List.of(prefix + "read", prefix + "unknown")));
+        // asking does not register the name
+        assertNull(ScopeSet.required(List.of(prefix + "unknown")));
+        assertSame(ScopeSet.EMPTY, ScopeSet.of(List.of()));
+        assertFalse(ScopeSet.EMPTY.has(prefix + "read"));
+        assertEquals(List.of(), ScopeSet.EMPTY.names());
+        assertTrue(set.containsAll(ScopeSet.required(List.of())));
+    }
+}
@@ -0,0 +1,126 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Ecom.ModelDTO.UserDTO;
+import Ecom.Service.UserService;
+import Ecom.Support.QueryBudget;
+import Ecom.Support.ShopFixture;
+
+/**
+ * Login credentials come from the cache after the first lookup, and a password change or a
+ * deactivation is refused on the very next login, including when a login cached the old
+ * credentials while the change was still uncommitted.
+ */
+@SpringBootTest(properties = QueryBudget.INSPECTOR)
+@Import(QueryBudget.RowCounting.class)
+class CustomerUserDetailsServiceTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private CustomerUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShopFixture shop;
+
+    private String email;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+        email = shop.getCustomer().getEmail();
+        context.getBean(JdbcTemplate.class).update("UPDATE users SET password = ? WHERE user_id = ?",
+                passwordEncoder.encode("oldpass1"), shop.getUserId());
+    }
+
+    @AfterEach
+    void deleteRows() {
+        userDetailsService.evict(email);
+        shop.delete();
+    }
+
+    @Test
+    void cachedLookupSkipsTheQuery() throws Exception {
+        QueryBudget.Usage first = QueryBudget.measure(() -> userDetailsService.loadUserByUsername(email));
+        QueryBudget.Usage cached = QueryBudget.measure(() -> userDetailsService.loadUserByUsername(email));
+
+        assertEquals(1, first.getStatements().size(), "first lookup:\n" + first.getStatements());
+        assertEquals(List.of(), cached.getStatements());
+    }
+
+    @Test
+    void oldPasswordIsRefusedRightAfterTheChange() {
+        login("oldpass1");
+
+        userService.changePassword(shop.getUserId(), newPassword("newpass1"));
+
+        assertThrows(BadCredentialsException.class, () -> login("oldpass1"));
+        login("newpass1");
+    }
+
+    @Test
+    void loginDuringTheChangeDoesNotKeepTheOldPassword() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.changePassword(shop.getUserId(), newPassword("newpass1"));
+            // another request logs in before the change commits and caches what it reads
+            CompletableFuture.runAsync(() -> login("oldpass1")).join();
+        });
+
+        assertThrows(BadCredentialsException.class, () -> login("oldpass1"));
+        login("newpass1");
+    }
+
+    @Test
+    void deactivatedAccountIsRefusedRightAway() {
+        login("oldpass1");
+
+        userService.deactivateUser(shop.getUserId());
+
+        assertThrows(DisabledException.class, () -> login("oldpass1"));
+    }
+
+    private void login(String password) {
+        assertTrue(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password))
+                .isAuthenticated());
+    }
+
+    private static UserDTO newPassword(String password) {
+        UserDTO dto = new UserDTO();
+        dto.setNewPassword(password);
+        return dto;
+    }
+}
@@ -0,0 +1,161 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Ecom.DTO.CheckoutRequest;
+import Ecom.Enum.PaymentMethod;
+import Ecom.Model.OrderItem;
+import Ecom.Model.Orders;
+import Ecom.Model.Shipper;
+import Ecom.Repository.OrderRepository;
+import Ecom.Repository.ShipperRepository;
+import Ecom.Service.CheckoutService;
+import Ecom.Service.OrderArchiveService;
+import Ecom.Service.OrdersService;
+import Ecom.Support.ShopFixture;
+
+/**
+ * A checked-out order (three lines, payment and shipping) is backdated past the cutoff, archived,
+ * and read back through the order lookups with everything it had. The cutoff lies decades before
+ * any order the other tests create, so only the backdated order is archivable.
+ */
+@SpringBootTest
+class OrderArchiveServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrdersService ordersService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ShipperRepository shipperRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ShopFixture shop;
+
+    private Integer shipperId;
+
+    private Integer orderId;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+        Shipper shipper = new Shipper();
+        shipper.setName("Archive Freight " + shop.getTag());
+        shipper.setPhoneNumber("0123456789");
+        shipperId = shipperRepository.save(shipper).getShipperId();
+
+        orderId = context.getBean(CheckoutService.class).checkout(shop.getUserId(), CheckoutRequest.builder()
+                .shipperId(shipperId).paymentMethod(PaymentMethod.CREDIT_CARD).address("12A Main Street")
+                .city("Hanoi").state("HN").country("Vietnam").postalCode("100000").build()).getOrderId();
+        jdbcTemplate.update("UPDATE orders SET order_date = ? WHERE order_id = ?", CUTOFF.minusMonths(6), orderId);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        shop.delete();
+        shipperRepository.deleteById(shipperId);
+    }
+
+    @Test
+    void archivedOrderLeavesTheLiveTables() {
+        assertEquals(1, orderArchiveService.archiveBatch(CUTOFF, 10));
+
+        assertEquals(List.of(0, 0, 0, 0), rows("orders", "order_item", "payments", "shipping"));
+        assertEquals(List.of(1, 3, 1, 1),
+                rows("orders_archive", "order_item_archive", "payments_archive", "shipping_archive"));
+        assertEquals(0, orderArchiveService.archiveBatch(CUTOFF, 10));
+    }
+
+    @Test
+    void orderDetailsFallBackToTheArchive() {
+        orderArchiveService.archiveBatch(CUTOFF, 10);
+
+        assertArchivedOrder(ordersService.getOrdersDetails(orderId));
+    }
+
+    @Test
+    void userOrdersIncludeArchivedOrders() {
+        orderArchiveService.archiveBatch(CUTOFF, 10);
+
+        List<Orders> orders = ordersService.getAllUserOrder(shop.getUserId());
+        assertEquals(3, orders.size());
+        assertArchivedOrder(orders.stream().filter(order -> order.getOrderId().equals(orderId)).findFirst().orElseThrow());
+    }
+
+    @Test
+    void listingsCoverLiveOrdersOnly() {
+        orderArchiveService.archiveBatch(CUTOFF, 10);
+
+        assertFalse(ordersService.viewAllOrders().stream().anyMatch(order -> order.getOrderId().equals(orderId)));
+    }
+
+    @Test
+    void ordersLockedByAnotherArchiverAreSkipped() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertEquals(List.of(orderId), orderRepository.findArchivableIds(CUTOFF, 10));
+
+            // a second instance neither waits for the lock nor archives the same order
+            int moved = CompletableFuture.supplyAsync(() -> orderArchiveService.archiveBatch(CUTOFF, 10))
+                    .orTimeout(10, TimeUnit.SECONDS).join();
+            assertEquals(0, moved);
+        });
+
+        assertEquals(1, orderArchiveService.archiveBatch(CUTOFF, 10));
+    }
+
+    private void assertArchivedOrder(Orders order) {
+        assertEquals(orderId, order.getOrderId());
+        assertEquals(60.0, order.getTotalAmount());
+        assertEquals(shop.getUserId(), order.getUser().getUserId());
+        assertEquals(List.of(shop.getProductName() + " 1", shop.getProductName() + " 2", shop.getProductName() + " 3"),
+                order.getOrderItem().stream().map(OrderItem::getProductName).sorted().toList());
+        assertEquals(60.0, order.getOrderItem().stream().mapToDouble(OrderItem::getLineTotal).sum());
+        assertEquals(PaymentMethod.CREDIT_CARD, order.getPayment().getPaymentMethod());
+        assertEquals(60.0, order.getPayment().getPaymentAmount());
+        assertEquals("Vietnam", order.getShippingDetails().getCountry());
+        assertTrue(order.getShippingDetails().getShippingId() > 0);
+    }
+
+    /**
+     * Rows of the archived order in each of the given tables
+     */
+    private List<Integer> rows(String... tables) {
+        return Arrays.stream(tables)
+                .map(table -> jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE order_id = ?",
+                        Integer.class, orderId))
+                .toList();
+    }
+}
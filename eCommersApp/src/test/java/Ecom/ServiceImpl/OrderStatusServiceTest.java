@@ -0,0 +1,129 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Ecom.DTO.BulkStatusTransitionRequest;
+import Ecom.Enum.OrderStatus;
+import Ecom.Event.OrderStatusChangedListener;
+import Ecom.Exception.OrdersException;
+import Ecom.Model.Orders;
+import Ecom.Repository.OrderRepository;
+import Ecom.Service.OrderStatusService;
+import Ecom.Support.ShopFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Every edge of the order state machine is either allowed or refused, and status change
+ * events reach listeners only once the change is committed.
+ */
+@SpringBootTest
+class OrderStatusServiceTest {
+
+    private static final Set<List<OrderStatus>> LEGAL = Set.of(
+            List.of(OrderStatus.PENDING, OrderStatus.SHIPPED),
+            List.of(OrderStatus.PENDING, OrderStatus.CANCELED),
+            List.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED),
+            List.of(OrderStatus.SHIPPED, OrderStatus.CANCELED));
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private OrderStatusService orderStatusService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ShopFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        fixture.delete();
+    }
+
+    static Stream<Arguments> edges() {
+        return Stream.of(OrderStatus.values()).flatMap(from -> Stream.of(OrderStatus.values())
+                .map(to -> Arguments.of(from, to, LEGAL.contains(List.of(from, to)))));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} allowed: {2}")
+    @MethodSource("edges")
+    void transitionTable(OrderStatus from, OrderStatus to, boolean legal) {
+        assertEquals(legal, from.canTransitionTo(to));
+        if (!legal) {
+            Orders order = new Orders();
+            order.setStatus(from);
+            assertThrows(OrdersException.class, () -> orderStatusService.transition(order, to));
+            assertEquals(from, order.getStatus());
+
+            BulkStatusTransitionRequest request = BulkStatusTransitionRequest.builder()
+                    .orderIds(List.of(fixture.getPaidOrderId())).from(from).to(to).build();
+            assertThrows(OrdersException.class, () -> orderStatusService.bulkTransition(request));
+        }
+    }
+
+    @Test
+    void eventIsDeliveredAfterCommit() {
+        Integer orderId = pendingOrderId();
+        double before = delivered(OrderStatus.PENDING, OrderStatus.CANCELED);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderStatusService.transition(orderRepository.findById(orderId).orElseThrow(), OrderStatus.CANCELED);
+            assertEquals(before, delivered(OrderStatus.PENDING, OrderStatus.CANCELED), "not before commit");
+        });
+
+        assertEquals(before + 1, delivered(OrderStatus.PENDING, OrderStatus.CANCELED));
+        assertEquals(OrderStatus.CANCELED, orderRepository.findById(orderId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void rolledBackTransitionIsNeverDelivered() {
+        Integer orderId = pendingOrderId();
+        double before = delivered(OrderStatus.PENDING, OrderStatus.SHIPPED);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderStatusService.transition(orderRepository.findById(orderId).orElseThrow(), OrderStatus.SHIPPED);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, delivered(OrderStatus.PENDING, OrderStatus.SHIPPED));
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(orderId).orElseThrow().getStatus());
+    }
+
+    private Integer pendingOrderId() {
+        return orderRepository.getAllOrderByUserId(fixture.getUserId()).stream()
+                .filter(order -> order.getStatus() == OrderStatus.PENDING)
+                .findFirst().orElseThrow().getOrderId();
+    }
+
+    private double delivered(OrderStatus from, OrderStatus to) {
+        return meterRegistry.counter(OrderStatusChangedListener.TRANSITIONS, "from", from.name(), "to", to.name()).count();
+    }
+}
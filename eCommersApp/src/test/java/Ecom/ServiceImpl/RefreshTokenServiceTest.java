@@ -0,0 +1,81 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import Ecom.DTO.RefreshRotation;
+import Ecom.Exception.RefreshTokenException;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.Service.RefreshTokenService;
+
+/**
+ * Each refresh token works once; presenting a consumed or revoked one again ends every
+ * session of that user. Runs against the configured PostgreSQL.
+ */
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    private final String username = "refresh-" + Long.toString(System.nanoTime(), 36) + "@example.com";
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteTokens() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE username = ?", username);
+    }
+
+    @Test
+    void rotationConsumesTheTokenAndRegistersItsReplacement() {
+        String first = refreshTokenService.issue(username);
+        String firstId = tokenProvider.verify(first).getJwtId();
+
+        RefreshRotation rotation = refreshTokenService.rotate(first);
+        String secondId = tokenProvider.verify(rotation.getRefreshToken()).getJwtId();
+
+        assertEquals(username, rotation.getUsername());
+        assertNotEquals(firstId, secondId);
+        assertTrue(refreshTokenService.isRevoked(firstId));
+        assertEquals(secondId, jdbcTemplate.queryForObject(
+                "SELECT replaced_by FROM refresh_tokens WHERE token_id = ?", String.class, firstId));
+        // the replacement rotates in turn
+        refreshTokenService.rotate(rotation.getRefreshToken());
+    }
+
+    @Test
+    void reuseRevokesEveryTokenOfTheUser() {
+        String first = refreshTokenService.issue(username);
+        String second = refreshTokenService.rotate(first).getRefreshToken();
+        String otherSession = refreshTokenService.issue(username);
+
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.rotate(first));
+
+        // the revocation survives the failed call
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE username = ? AND revoked = false", Integer.class, username));
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.rotate(second));
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.rotate(otherSession));
+    }
+
+    @Test
+    void otherTokenTypesCannotBeRotated() {
+        String middleware = tokenProvider.generateMiddlewareToken(username, new String[] { "products:read" });
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.rotate(middleware));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE username = ?", Integer.class, username));
+    }
+}
@@ -0,0 +1,66 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import Ecom.Model.Review;
+import Ecom.Service.ReviewService;
+import Ecom.Support.ShopFixture;
+import jakarta.validation.ConstraintViolationException;
+
+/**
+ * Ratings from 1 to 5 are stored; anything else is refused by bean validation before the insert.
+ */
+@SpringBootTest
+class ReviewServiceTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    private ShopFixture shop;
+
+    @BeforeEach
+    void seed() {
+        shop = new ShopFixture(context);
+    }
+
+    @AfterEach
+    void deleteRows() {
+        shop.delete();
+    }
+
+    @Test
+    void ratingsWithinOneToFiveAreStored() {
+        for (int rating = 1; rating <= 5; rating++) {
+            Review saved = reviewService.addReviewToProduct(shop.getProducts().get(0).getProductId(), shop.getUserId(),
+                    review(rating));
+            assertEquals(rating, saved.getRating());
+        }
+    }
+
+    @Test
+    void ratingsOutsideOneToFiveAreRefused() {
+        Integer productId = shop.getProducts().get(0).getProductId();
+        assertThrows(ConstraintViolationException.class,
+                () -> reviewService.addReviewToProduct(productId, shop.getUserId(), review(0)));
+        assertThrows(ConstraintViolationException.class,
+                () -> reviewService.addReviewToProduct(productId, shop.getUserId(), review(6)));
+    }
+
+    private static Review review(int rating) {
+        Review review = new Review();
+        review.setRating(rating);
+        review.setComment("rating " + rating);
+        return review;
+    }
+}
@@ -0,0 +1,139 @@
+package Ecom.ServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import Ecom.DTO.TokenIntrospection;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.Service.RefreshTokenService;
+import Ecom.Service.TokenIntrospectionService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+
+/**
+ * Active middleware tokens are described with their scopes; expired, forged and revoked tokens
+ * come back as {"active": false} only, and tokens of another type are active but grant no scope.
+ */
+@SpringBootTest
+class TokenIntrospectionServiceTest {
+
+    private static final List<String> GRANTED = List.of("introspect:products:read", "introspect:orders:read");
+
+    private final String username = "introspect-" + Long.toString(System.nanoTime(), 36) + "@example.com";
+
+    @Autowired
+    private TokenIntrospectionService introspectionService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @AfterEach
+    void deleteTokens() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE username = ?", username);
+    }
+
+    @Test
+    void middlewareTokenIsActiveWithItsScopes() {
+        String token = tokenProvider.generateMiddlewareToken(username, GRANTED.toArray(String[]::new));
+
+        TokenIntrospection described = introspectionService.introspect(token, List.of());
+        assertTrue(described.isActive());
+        assertEquals(username, described.getSub());
+        assertEquals(JwtTokenProvider.MIDDLEWARE, described.getTokenType());
+        assertEquals(GRANTED, described.getScopes());
+        assertNull(described.getAllowed());
+
+        assertTrue(introspectionService.introspect(token, GRANTED.subList(0, 1)).getAllowed());
+        assertTrue(introspectionService.hasScopes(token, GRANTED));
+        assertFalse(introspectionService.introspect(token, List.of(GRANTED.get(0), "introspect:orders:write"))
+                .getAllowed());
+        assertFalse(introspectionService.hasScopes(token, List.of("introspect:never-granted")));
+    }
+
+    @Test
+    void expiredTokenIsInactive() {
+        long now = System.currentTimeMillis();
+        String expired = Jwts.builder()
+                .setSubject(username)
+                .claim("scopes", GRANTED)
+                .claim("tokenType", JwtTokenProvider.MIDDLEWARE)
+                .setIssuedAt(new Date(now - 120_000))
+                .setExpiration(new Date(now - 60_000))
+                .signWith(new SecretKeySpec(Decoders.BASE64.decode(jwtSecret), SignatureAlgorithm.HS512.getJcaName()),
+                        SignatureAlgorithm.HS512)
+                .compact();
+
+        assertEquals(TokenIntrospection.INACTIVE, introspectionService.introspect(expired, GRANTED));
+        assertFalse(introspectionService.hasScopes(expired, GRANTED));
+    }
+
+    @Test
+    void forgedTokenIsInactive() {
+        String token = tokenProvider.generateMiddlewareToken(username, GRANTED.toArray(String[]::new));
+        String forged = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        assertEquals(TokenIntrospection.INACTIVE, introspectionService.introspect(forged, List.of()));
+        assertEquals(TokenIntrospection.INACTIVE, introspectionService.introspect("not a token", List.of()));
+    }
+
+    @Test
+    void revokedRefreshTokenAndItsAccessTokensAreInactive() {
+        String refresh = refreshTokenService.issue(username);
+        String access = tokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))), tokenProvider.verify(refresh).getJwtId());
+        assertTrue(introspectionService.introspect(refresh, List.of()).isActive());
+        assertTrue(introspectionService.introspect(access, List.of()).isActive());
+
+        refreshTokenService.revoke(refresh);
+
+        assertEquals(TokenIntrospection.INACTIVE, introspectionService.introspect(refresh, List.of()));
+        assertEquals(TokenIntrospection.INACTIVE, introspectionService.introspect(access, List.of()));
+    }
+
+    @Test
+    void otherTokenTypesGrantNoScope() {
+        String access = tokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        String refresh = refreshTokenService.issue(username);
+        // compiling a middleware token registers the scope names, so the checks below are real bit tests
+        introspectionService.hasScopes(tokenProvider.generateMiddlewareToken(username, GRANTED.toArray(String[]::new)),
+                GRANTED);
+
+        TokenIntrospection described = introspectionService.introspect(access, GRANTED);
+        assertTrue(described.isActive());
+        assertEquals(JwtTokenProvider.ACCESS, described.getTokenType());
+        assertEquals(List.of("ROLE_USER"), described.getAuthorities());
+        assertEquals(List.of(), described.getScopes());
+        assertFalse(described.getAllowed());
+        assertFalse(introspectionService.hasScopes(access, GRANTED));
+
+        assertEquals(JwtTokenProvider.REFRESH, introspectionService.introspect(refresh, List.of()).getTokenType());
+        assertFalse(introspectionService.hasScopes(refresh, GRANTED.subList(0, 1)));
+    }
+}
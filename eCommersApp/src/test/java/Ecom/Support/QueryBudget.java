@@ -0,0 +1,188 @@
+package Ecom.Support;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * SQL accounting for one block of work on the current thread: the statements Hibernate
+ * prepares (seen through its StatementInspector) and the rows the queries return (counted
+ * on the JDBC result sets). Work on other threads, such as scheduled jobs, is not counted.
+ *
+ * Enable it on a Spring Boot test with
+ * {@code @SpringBootTest(properties = QueryBudget.INSPECTOR)} and {@code @Import(QueryBudget.RowCounting.class)}.
+ */
+public final class QueryBudget implements StatementInspector {
+
+    public static final String INSPECTOR =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=Ecom.Support.QueryBudget";
+
+    private static final ThreadLocal<Usage> CURRENT = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Work {
+        void run() throws Exception;
+    }
+
+    /**
+     * What one measured block did
+     */
+    public static final class Usage {
+
+        private final List<String> statements = new ArrayList<>();
+
+        private long rows;
+
+        public List<String> getStatements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Statements that read (selects), as opposed to inserts, updates and deletes
+         */
+        public long getReads() {
+            return statements.stream().filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6)).count();
+        }
+
+        /**
+         * Fail with the statements that ran when either budget is exceeded
+         */
+        public Usage assertWithin(String name, int maxStatements, long maxRows) {
+            if (statements.size() > maxStatements || rows > maxRows) {
+                StringBuilder message = new StringBuilder()
+                        .append(name).append(": ").append(statements.size()).append(" statements (")
+                        .append(getReads()).append(" reads) / ")
+                        .append(rows).append(" rows, budget ").append(maxStatements).append(" / ").append(maxRows);
+                statements.forEach(sql -> message.append("\n  ").append(sql));
+                fail(message.toString());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Run the work and return the statements and rows it used
+     */
+    public static Usage measure(Work work) throws Exception {
+        Usage usage = new Usage();
+        CURRENT.set(usage);
+        try {
+            work.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return usage;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Usage usage = CURRENT.get();
+        if (usage != null) {
+            usage.statements.add(sql);
+        }
+        return sql;
+    }
+
+    private static void countRow() {
+        Usage usage = CURRENT.get();
+        if (usage != null) {
+            usage.rows++;
+        }
+    }
+
+    /**
+     * Wraps the application DataSource so query result sets report the rows they return
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class RowCounting {
+
+        @Bean
+        static BeanPostProcessor rowCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return "dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                            ? new RowCountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    static final class RowCountingDataSource extends DelegatingDataSource {
+
+        RowCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    /**
+     * Connection -> Statement -> ResultSet proxies; only query results are counted, not generated keys
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return intercept(method, result);
+        };
+        return (T) Proxy.newProxyInstance(QueryBudget.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object intercept(Method method, Object result) {
+        if (result instanceof ResultSet && !method.getName().equals("getGeneratedKeys")) {
+            return wrap(ResultSet.class, result);
+        }
+        if (result instanceof CallableStatement) {
+            return wrap(CallableStatement.class, result);
+        }
+        if (result instanceof PreparedStatement) {
+            return wrap(PreparedStatement.class, result);
+        }
+        if (result instanceof Statement) {
+            return wrap(Statement.class, result);
+        }
+        if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+            countRow();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package Ecom.Support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import Ecom.SecurityConfig.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A {@link BoundedPasswordEncoder} with one hashing thread and one queue slot, both taken by
+ * hashes that block until {@link #close()}: every further call is refused, as during a login
+ * burst. Closing lets the blocked hashes finish and shuts the pool down.
+ */
+public final class SaturatedPasswordEncoder implements AutoCloseable {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BoundedPasswordEncoder encoder;
+
+    private final List<CompletableFuture<String>> blocked = new ArrayList<>();
+
+    public SaturatedPasswordEncoder() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, meterRegistry);
+
+        blocked.add(CompletableFuture.supplyAsync(() -> encoder.encode("on the hashing thread")));
+        if (!hashing.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("hashing thread never started");
+        }
+        blocked.add(CompletableFuture.supplyAsync(() -> encoder.encode("in the queue")));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("ecom.security.bcrypt.queue.size").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("queue never filled");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    public PasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Calls refused so far
+     */
+    public double getRejected() {
+        return meterRegistry.get("ecom.security.bcrypt.rejected").counter().count();
+    }
+
+    @Override
+    public void close() {
+        release.countDown();
+        blocked.forEach(CompletableFuture::join);
+        encoder.destroy();
+    }
+
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash of " + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package Ecom.Support;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import Ecom.Enum.UserAccountStatus;
+import Ecom.Enum.UserRole;
+import Ecom.Model.Address;
+import Ecom.Model.Product;
+import Ecom.Model.Review;
+import Ecom.Model.User;
+import Ecom.Repository.AddressRepository;
+import Ecom.Repository.ProductRepository;
+import Ecom.Repository.ReviewRepository;
+import Ecom.Repository.UserRepository;
+import Ecom.SecurityConfig.JwtTokenProvider;
+import Ecom.Service.CartService;
+import Ecom.Service.OrdersService;
+import Ecom.Service.PaymentService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Seeded shop data for endpoint tests against the configured PostgreSQL: one customer with two
+ * addresses, three products with two reviews each, two placed orders (the first one paid) and a
+ * cart holding all three products. Orders and cart go through the services, as the API would
+ * create them. Names are unique per instance; {@link #delete()} removes every row again.
+ */
+@Getter
+public class ShopFixture {
+
+    private final String tag = Long.toString(System.nanoTime(), 36);
+
+    private final String productName = "Lamp " + tag;
+
+    private final String category = "fixture-" + tag;
+
+    /**
+     * Session token of the web client, with both the ADMIN and the USER role
+     */
+    private final String token;
+
+    private final User customer;
+
+    private final List<Product> products = new ArrayList<>();
+
+    private final Integer paidOrderId;
+
+    private final Integer cartId;
+
+    @Getter(AccessLevel.NONE)
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter(AccessLevel.NONE)
+    private final ProductRepository productRepository;
+
+    @Getter(AccessLevel.NONE)
+    private final ReviewRepository reviewRepository;
+
+    @Getter(AccessLevel.NONE)
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ShopFixture(ApplicationContext context) {
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        productRepository = context.getBean(ProductRepository.class);
+        reviewRepository = context.getBean(ReviewRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        CartService cartService = context.getBean(CartService.class);
+        OrdersService ordersService = context.getBean(OrdersService.class);
+
+        token = context.getBean(JwtTokenProvider.class).generateSessionToken(new UsernamePasswordAuthenticationToken(
+                "fixture-" + tag + "@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"))));
+
+        User user = new User();
+        user.setEmail("fixture-" + tag + "@example.com");
+        user.setPassword("not-a-hash");
+        user.setFirstName("Fixture");
+        user.setLastName("Customer");
+        user.setPhoneNumber("0123456789");
+        user.setRole(UserRole.ROLE_USER);
+        user.setRegisterTime(LocalDateTime.now());
+        user.setUserAccountStatus(UserAccountStatus.ACTIVE);
+        customer = context.getBean(UserRepository.class).save(user);
+        AddressRepository addressRepository = context.getBean(AddressRepository.class);
+        addressRepository.save(address("12A"));
+        addressRepository.save(address("7B"));
+
+        for (int i = 1; i <= 3; i++) {
+            Product product = new Product();
+            product.setName(productName + " " + i);
+            product.setImageUrl("https://example.com/fixture.png");
+            product.setDescription("seeded test product");
+            product.setPrice(10.0 * i);
+            product.setCategory(category);
+            product = productRepository.save(product);
+            products.add(product);
+            saveReview(product, 4);
+            saveReview(product, 5);
+        }
+
+        Integer userId = customer.getUserId();
+        cartService.addProductToCart(userId, products.get(0).getProductId());
+        cartService.addProductToCart(userId, products.get(1).getProductId());
+        paidOrderId = ordersService.placeOrder(userId).getOrderId();
+        context.getBean(PaymentService.class).makePayment(paidOrderId, userId);
+        cartService.addProductToCart(userId, products.get(2).getProductId());
+        ordersService.placeOrder(userId);
+        Integer cart = null;
+        for (Product product : products) {
+            cart = cartService.addProductToCart(userId, product.getProductId()).getCartId();
+        }
+        cartId = cart;
+    }
+
+    public Integer getUserId() {
+        return customer.getUserId();
+    }
+
+    public void delete() {
+        Integer userId = customer.getUserId();
+        String orders = "SELECT order_id FROM orders WHERE user_id = ?";
+        jdbcTemplate.update("UPDATE orders SET payment_id = NULL, shipping_details_id = NULL WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM payments WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM shipping WHERE order_id IN (" + orders + ")", userId);
+        jdbcTemplate.update("DELETE FROM orders_order_item WHERE orders_order_id IN (" + orders + ")", userId);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN (" + orders + ")", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        String archived = "SELECT order_id FROM orders_archive WHERE user_id = ?";
+        jdbcTemplate.update("DELETE FROM order_item_archive WHERE order_id IN (" + archived + ")", userId);
+        jdbcTemplate.update("DELETE FROM shipping_archive WHERE order_id IN (" + archived + ")", userId);
+        jdbcTemplate.update("DELETE FROM payments_archive WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM orders_archive WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM cart_items WHERE cart_id IN (SELECT cart_id FROM cart WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM cart WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM reviews WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM address WHERE userid = ?", userId);
+        jdbcTemplate.update("DELETE FROM user_permissions WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", userId);
+        productRepository.deleteAllById(products.stream().map(Product::getProductId).toList());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Address address(String flatNo) {
+        Address address = new Address();
+        address.setFlatNo(flatNo);
+        address.setStreet("Main Street");
+        address.setCity("Hanoi");
+        address.setZipCode("100000");
+        address.setState("HN");
+        address.setUser(customer);
+        return address;
+    }
+
+    private void saveReview(Product product, int rating) {
+        Review review = new Review();
+        review.setRating(rating);
+        review.setComment("seeded review");
+        review.setCreatedAt(LocalDateTime.now());
+        review.setUser(customer);
+        review.setProduct(product);
+        reviewRepository.save(review);
+    }
+}
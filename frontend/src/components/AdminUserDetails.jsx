@@ -6,30 +6,31 @@ import api from '../Router/api';
 function AdminUserDetails() {
   const [users, setUsers] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState(null);
 
-  useEffect(() => {
+  // Customers come one page at a time; nextCursor is null on the last page
+  const loadPage = (cursor) => {
     api
-      .get('/ecom/customers/get-all-customer')
+      .get('/ecom/customers/get-all-customer', { params: { cursor: cursor ?? undefined, size: 50 } })
       .then((response) => {
-        // Sort addresses for each user by timestamp in descending order
-        const sortedUsers = response.data.map((user) => ({
-          ...user,
-          address: user.address.sort((a, b) => new Date(b.timestamp) - new Date(a.timestamp)),
-        }));
-        setUsers(sortedUsers);
+        setUsers((previous) => (cursor ? [...previous, ...response.data.customers] : response.data.customers));
+        setNextCursor(response.data.nextCursor);
         setLoading(false);
       })
       .catch((error) => {
         console.error('Error fetching data:', error);
         setLoading(false);
       });
+  };
+
+  useEffect(() => {
+    loadPage(null);
   }, []);
 
   // Function to get the latest address for a user
   const getLatestAddress = (user) => {
-    const addresses = user.address;
-    if (addresses && addresses.length > 0) {
-      const latestAddress = addresses[0];
+    const latestAddress = user.latestAddress;
+    if (latestAddress) {
       return (
         <div>
           <h3>Latest Address</h3>
@@ -67,6 +68,9 @@ function AdminUserDetails() {
           </div>
         ))
       )}
+      {!loading && nextCursor && (
+        <button onClick={() => loadPage(nextCursor)}>Load more</button>
+      )}
     </div>
   );
 }
@@ -37,8 +37,8 @@ const AddOrderAdmin = () => {
                 <hr />
                 {order.orderItem.map((item) => (
                   <div className="order-item" key={item.orderItemId}>
-                    <p>Product: {item.product.name}</p>
-                    <p>Price: {item.product.price}</p>
+                    <p>Product: {item.productName}</p>
+                    <p>Price: {item.unitPrice}</p>
                     <p>Quantity: {item.quantity}</p>
                   </div>
                 ))}
@@ -106,7 +106,7 @@ const OrderDetails = () => {
                     <h3>Order Items</h3>
                     {order.orderItem.map((item) => (
                       <li key={item.orderItemId}>
-                        {item.product.name} - Quantity: {item.quantity}
+                        {item.productName} - Quantity: {item.quantity}
                       </li>
                     ))}
                   </div>